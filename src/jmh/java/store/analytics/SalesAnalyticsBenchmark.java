@@ -0,0 +1,52 @@
+package store.analytics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.order.OrderResult;
+import store.domain.promotion.PurchaseType;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+// 하루치 영수증 백만 장(주문 줄 3백만 개)을 집계하는 시간
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SalesAnalyticsBenchmark {
+
+    private static final int RECEIPT_COUNT = 1_000_000;
+    private static final String[] PRODUCTS = {"콜라", "사이다", "오렌지주스", "탄산수", "물", "비타민워터", "감자칩",
+            "초코바", "에너지바", "정식도시락", "컵라면"};
+    private static final String[] PROMOTIONS = {"탄산2+1", "MD추천상품", "반짝할인"};
+
+    private SalesLog salesLog;
+
+    @Setup
+    public void setUp() {
+        salesLog = new SalesLog();
+        for (int i = 0; i < RECEIPT_COUNT; i++) {
+            salesLog.append(List.of(orderResult(i), orderResult(i + 1), orderResult(i + 2)));
+        }
+    }
+
+    private OrderResult orderResult(final int seed) {
+        String productName = PRODUCTS[seed % PRODUCTS.length];
+        int giftQuantity = seed % 3;
+        PurchaseType purchaseType = PurchaseType.values()[seed % PurchaseType.values().length];
+        int price = 1000 + seed % 7 * 100;
+        return new OrderResult(new PurchaseResult(productName, 3 + giftQuantity, price),
+                new GiftResult(productName, giftQuantity, price), seed % 5 * 100, purchaseType,
+                PROMOTIONS[seed % PROMOTIONS.length]);
+    }
+
+    @Benchmark
+    public SalesReport aggregate() {
+        return SalesAnalytics.aggregate(salesLog);
+    }
+}
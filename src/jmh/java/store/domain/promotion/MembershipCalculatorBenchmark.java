@@ -0,0 +1,29 @@
+package store.domain.promotion;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MembershipCalculatorBenchmark {
+
+    private final MembershipCalculator membershipCalculator = new MembershipCalculator();
+    private final PromotionResult regularResult = PromotionResult.makeRegularPurchaseResult(4);
+    private final PromotionResult mixedResult = PromotionResult.makeMixedPurchaseResult(10, 2, 4, 0);
+
+    @Benchmark
+    public int calculateRegular() {
+        return membershipCalculator.calculate(1000, regularResult);
+    }
+
+    @Benchmark
+    public int calculateMixed() {
+        return membershipCalculator.calculate(1000, mixedResult);
+    }
+}
@@ -0,0 +1,57 @@
+package store.domain.promotion;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.product.Product;
+import store.domain.product.stock.ProductStock;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PromotionProcessorBenchmark {
+
+    private static final LocalDate NOW = LocalDate.of(2024, 12, 13);
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    @Param({"REGULAR_ONLY", "MIXED", "PROMOTIONAL_ONLY"})
+    private PurchaseType purchaseType;
+
+    private final PromotionProcessor promotionProcessor = new PromotionProcessor();
+    private ProductStock productStock;
+    private int purchaseQuantity;
+
+    // 반복마다 재고를 다시 채워 차감으로 인한 재고 부족을 막는다.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 20));
+        switch (purchaseType) {
+            case REGULAR_ONLY -> setUpStock(null, 0, 3);
+            // 프로모션 재고(7개)를 넘겨 정가 결제 안내만 받고 재고는 차감하지 않는다.
+            case MIXED -> setUpStock(promotion, 7, 10);
+            case PROMOTIONAL_ONLY -> setUpStock(promotion, UNLIMITED, 3);
+        }
+    }
+
+    private void setUpStock(final Promotion promotion, final int promotionQuantity, final int purchaseQuantity) {
+        productStock = new ProductStock(new Product("콜라", 1000, promotion));
+        if (promotion != null) {
+            productStock.addPromotionQuantity(promotionQuantity);
+        }
+        productStock.addRegularQuantity(UNLIMITED);
+        this.purchaseQuantity = purchaseQuantity;
+    }
+
+    @Benchmark
+    public PromotionResult processOrder() {
+        return promotionProcessor.processOrder(productStock, purchaseQuantity, NOW);
+    }
+}
@@ -0,0 +1,43 @@
+package store.domain.receipt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.order.OrderResult;
+import store.domain.product.Product;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.PromotionResult;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReceiptBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int orderCount;
+
+    private List<OrderResult> orderResults;
+
+    @Setup
+    public void setUp() {
+        orderResults = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            ProductStock productStock = new ProductStock(new Product("상품" + i, 1000, null));
+            PromotionResult promotionResult = PromotionResult.makeMixedPurchaseResult(10, i % 3, 4, 0);
+            orderResults.add(OrderResult.of(productStock, promotionResult, 1200));
+        }
+    }
+
+    @Benchmark
+    public Receipt from() {
+        return Receipt.from(orderResults);
+    }
+}
@@ -0,0 +1,65 @@
+package store.metrics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.analytics.SalesLedger;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.receipt.Receipt;
+import store.service.BatchOrderEngine;
+import store.service.StoreService;
+
+// 같은 거래를 지표를 끈 JVM과 켠 JVM에서 처리하여 계측 비용을 비교
+// ./gradlew jmh -PjmhIncludes=CheckoutMetrics
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CheckoutMetricsBenchmark {
+
+    private static final int STOCK = 1_000_000_000;
+
+    private BatchOrderEngine batchOrderEngine;
+    private Orders orders;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), STOCK);
+        inventory.addProductStock(new Product("콜라", 1000, null), STOCK);
+        inventory.addProductStock(new Product("물", 500, null), STOCK);
+        inventory.addProductStock(new Product("정식도시락", 6400, null), STOCK);
+        batchOrderEngine = new BatchOrderEngine(new StoreService(), inventory,
+                new PromotionCalendar(List.of(promotion)), AnswerPolicy.of(true, true, true),
+                SalesLedger.disabled());
+        orders = new Orders(List.of(new Order("콜라", 3), new Order("물", 2), new Order("정식도시락", 1)));
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Receipt processOrders() {
+        return batchOrderEngine.processOrders(orders);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dstore.metrics=build/jmh-metrics.txt")
+    public Receipt processOrdersWithMetrics() {
+        return batchOrderEngine.processOrders(orders);
+    }
+}
@@ -0,0 +1,64 @@
+package store.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+
+// 수백 줄짜리 대량 주문의 예상 금액 계산 시간. 거래를 확정하지 않으므로 반복해도 재고가 줄지 않는다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class BasketPricerBenchmark {
+
+    private static final int LINES = 500;
+
+    private StoreService storeService;
+    private BasketPricer basketPricer;
+    private ActivePromotions activePromotions;
+    private Orders orders;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+        Inventory inventory = new Inventory();
+        List<Order> lines = new ArrayList<>(LINES);
+        for (int i = 0; i < LINES; i++) {
+            Promotion linePromotion = i % 2 == 0 ? promotion : null;
+            inventory.addProductStock(new Product("상품" + i, 1000 + i, linePromotion), 1_000);
+            inventory.addProductStock(new Product("상품" + i, 1000 + i, null), 1_000);
+            lines.add(new Order("상품" + i, 1 + i % 7));
+        }
+        storeService = new StoreService();
+        basketPricer = new BasketPricer(storeService, inventory, AnswerPolicy.of(true, true, true));
+        activePromotions = new PromotionCalendar(List.of(promotion)).activeOn(today);
+        orders = new Orders(lines);
+    }
+
+    @TearDown
+    public void tearDown() {
+        storeService.close();
+    }
+
+    @Benchmark
+    public BasketQuote quote() {
+        return basketPricer.quote(orders, activePromotions);
+    }
+}
@@ -0,0 +1,52 @@
+package store.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.product.Product;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionResult;
+
+// ./gradlew jmh -PjmhIncludes=StoreService -PjmhGc 로 주문당 할당량(gc.alloc.rate.norm)을 확인
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StoreServiceBenchmark {
+
+    private final StoreService storeService = new StoreService();
+    private ProductStock productStock;
+    private PromotionResult mixedResult;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+        productStock = new ProductStock(new Product("콜라", 1000, promotion));
+        productStock.addPromotionQuantity(Integer.MAX_VALUE);
+        productStock.addRegularQuantity(Integer.MAX_VALUE);
+        mixedResult = PromotionResult.makeMixedPurchaseResult(10, 2, 4, 0);
+    }
+
+    @Benchmark
+    public PromotionResult processOrder() {
+        return storeService.processOrder(3, productStock);
+    }
+
+    @Benchmark
+    public PromotionResult processOnlyPromotionPayment() {
+        return storeService.processOnlyPromotionPayment(productStock, mixedResult);
+    }
+
+    @Benchmark
+    public int processMembership() {
+        return storeService.processMembership(1000, mixedResult);
+    }
+}
@@ -0,0 +1,81 @@
+package store.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionRegistry;
+
+// 상품 100만 행, 프로모션 5천 개 규모의 카탈로그 적재
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CatalogLoadBenchmark {
+
+    private static final int PRODUCT_ROWS = 1_000_000;
+    private static final int PROMOTIONS = 5_000;
+
+    private List<String> promotionLines;
+    private List<String> productLines;
+    private PromotionRegistry promotionRegistry;
+    private Path productFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        promotionLines = new ArrayList<>(PROMOTIONS);
+        for (int i = 0; i < PROMOTIONS; i++) {
+            promotionLines.add("행사" + i + ",2,1,2024-01-01,2024-12-31");
+        }
+        productLines = new ArrayList<>(PRODUCT_ROWS);
+        for (int i = 0; i < PRODUCT_ROWS; i++) {
+            String promotion = i % 2 == 0 ? "행사" + (i % PROMOTIONS) : "null";
+            productLines.add("상품" + (i / 2) + "," + (1000 + i % 100) + ",10," + promotion);
+        }
+        promotionRegistry = CatalogParser.parsePromotions(promotionLines);
+        productFile = Files.createTempFile("products", ".md");
+        List<String> fileLines = new ArrayList<>(PRODUCT_ROWS + 1);
+        fileLines.add("name,price,quantity,promotion");
+        fileLines.addAll(productLines);
+        Files.write(productFile, fileLines, StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(productFile);
+    }
+
+    @Benchmark
+    public PromotionRegistry parsePromotions() {
+        return CatalogParser.parsePromotions(promotionLines);
+    }
+
+    @Benchmark
+    public Inventory parseInventory() {
+        return CatalogParser.parseInventory(productLines, promotionRegistry);
+    }
+
+    @Benchmark
+    public Inventory readInventoryFile() {
+        Inventory inventory = new Inventory();
+        StoreFileReader.readRows(productFile, row -> CatalogParser.addProductStock(inventory, row, promotionRegistry));
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory readInventoryFileInParallel() {
+        return ParallelCatalogLoader.readInventory(productFile, promotionRegistry, ForkJoinPool.commonPool());
+    }
+}
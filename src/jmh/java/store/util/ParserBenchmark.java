@@ -0,0 +1,44 @@
+package store.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    private static final String ORDER_LINE = "[콜라-10],[사이다-3],[감자칩-1],[정식도시락-2]";
+
+    private Inventory inventory;
+
+    @Setup
+    public void setUp() {
+        inventory = new Inventory();
+        for (String name : List.of("콜라", "사이다", "감자칩", "정식도시락")) {
+            inventory.addProductStock(new Product(name, 1000, null), 10);
+        }
+    }
+
+    // 콘솔에서 읽은 주문 한 줄을 주문 목록으로 변환하는 전체 경로
+    @Benchmark
+    public Orders parseOrderLine() {
+        return OrderParser.parse(ORDER_LINE);
+    }
+
+    // 상품명을 재고 사전에서 바로 찾는 경로
+    @Benchmark
+    public Orders parseOrderLineWithInventory() {
+        return OrderParser.parse(ORDER_LINE, inventory);
+    }
+}
@@ -0,0 +1,42 @@
+package store.view;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptBuilder;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+// ./gradlew jmh -PjmhIncludes=ReceiptRenderer -PjmhGc 로 영수증 한 장당 할당량을 확인
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ReceiptRendererBenchmark {
+
+    private final ReceiptRenderer receiptRenderer = new ReceiptRenderer();
+    private final StringBuilder buffer = new StringBuilder(4096);
+    private Receipt receipt;
+
+    @Setup
+    public void setUp() {
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+        for (int i = 0; i < 10; i++) {
+            receiptBuilder.addPurchase(new PurchaseResult("상품" + i, i + 1, 1200 * (i + 1)))
+                    .addGift(new GiftResult("상품" + i, 1, 1200 * (i + 1)));
+        }
+        receipt = receiptBuilder.addMembershipDiscount(3000).build();
+    }
+
+    @Benchmark
+    public int render() {
+        buffer.setLength(0);
+        receiptRenderer.render(receipt, buffer);
+        return buffer.length();
+    }
+}
@@ -1,23 +1,168 @@
 package store;
 
 import camp.nextstep.edu.missionutils.Console;
+import java.nio.file.Path;
+import java.time.Duration;
+import store.analytics.SalesLedger;
+import store.analytics.SalesReportLog;
+import store.config.StoreOptions;
 import store.controller.StoreController;
+import store.domain.command.Answer;
+import store.domain.command.AnswerPolicy;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionCalendar;
+import store.metrics.CheckoutMetrics;
+import store.metrics.MetricsReporter;
+import store.persistence.InventoryRepository;
+import store.persistence.InventorySnapshot;
+import store.replenishment.LowStockDetector;
+import store.replenishment.ReplenishmentConsumer;
+import store.replenishment.ReplenishmentLog;
+import store.server.CheckoutServer;
+import store.service.BatchOrderEngine;
+import store.service.BatchSummary;
+import store.service.OrderFileImporter;
 import store.service.StoreService;
 import store.util.ExceptionHandler;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class Application {
+
+    private static final String SERVER_MODE = "server";
+    private static final String IMPORT_MODE = "import";
+    private static final int IMPORT_FILE_INDEX = 1;
+    private static final int IMPORT_ANSWERS_INDEX = 2;
+    private static final int ANSWER_COUNT = 3;
+    private static final Duration METRICS_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration REPLENISHMENT_INTERVAL = Duration.ofSeconds(1);
+
     public static void main(String[] args) {
+        StoreService service = new StoreService();
+        StoreOptions storeOptions = StoreOptions.fromSystemProperties();
+        MetricsReporter metricsReporter = startMetricsReporter(storeOptions);
+        SalesLedger salesLedger = openSalesLedger(storeOptions);
+        try {
+            run(args, service, storeOptions, salesLedger);
+        } finally {
+            service.close();
+            salesLedger.close();
+            if (metricsReporter != null) {
+                metricsReporter.close();
+            }
+        }
+    }
+
+    // -Dstore.metrics 파일에 지표를 주기적으로 쓴다. 꺼져 있으면 null
+    private static MetricsReporter startMetricsReporter(final StoreOptions storeOptions) {
+        if (!storeOptions.isMetricsEnabled()) {
+            return null;
+        }
+        return MetricsReporter.start(CheckoutMetrics.global(), storeOptions.metricsFile(), METRICS_INTERVAL);
+    }
+
+    // 영업일이 바뀔 때와 종료할 때 -Dstore.sales 파일에 그날의 판매 집계를 덧붙인다.
+    private static SalesLedger openSalesLedger(final StoreOptions storeOptions) {
+        if (!storeOptions.isSalesReportEnabled()) {
+            return SalesLedger.disabled();
+        }
+        return new SalesLedger(new SalesReportLog(storeOptions.salesReportFile()));
+    }
+
+    // -Dstore.replenishment 파일에 재고 부족 상품을 모아 쓴다. 꺼져 있으면 null
+    private static ReplenishmentConsumer startReplenishment(final StoreOptions storeOptions,
+                                                            final Inventory inventory) {
+        if (!storeOptions.isReplenishmentEnabled()) {
+            return null;
+        }
+        LowStockDetector lowStockDetector = LowStockDetector.register(inventory, storeOptions.lowStockThreshold());
+        return ReplenishmentConsumer.start(lowStockDetector,
+                new ReplenishmentLog(storeOptions.replenishmentFile()), REPLENISHMENT_INTERVAL);
+    }
+
+    private static void closeReplenishment(final ReplenishmentConsumer replenishmentConsumer) {
+        if (replenishmentConsumer != null) {
+            replenishmentConsumer.close();
+        }
+    }
+
+    private static void run(final String[] args, final StoreService service, final StoreOptions storeOptions,
+                            final SalesLedger salesLedger) {
+        if (args.length > 0 && args[0].equals(SERVER_MODE)) {
+            runServer(service, storeOptions, salesLedger);
+            return;
+        }
+        if (args.length > IMPORT_FILE_INDEX && args[0].equals(IMPORT_MODE)) {
+            runImport(service, storeOptions, salesLedger, args);
+            return;
+        }
         InputView inputView = new InputView();
         OutputView outputView = new OutputView();
         ExceptionHandler exceptionHandler = new ExceptionHandler(outputView);
-        StoreService service = new StoreService();
-        StoreController controller = new StoreController(inputView, outputView, exceptionHandler, service);
+        StoreController controller = new StoreController(inputView, outputView, exceptionHandler, service,
+                storeOptions, salesLedger);
         try {
             controller.process();
         } finally {
             Console.close();
         }
     }
+
+    // -Dstore.port 포트에서 접속을 받으며, 종료 시 남은 재고와 그날의 판매 집계를 저장한다.
+    private static void runServer(final StoreService service, final StoreOptions storeOptions,
+                                  final SalesLedger salesLedger) {
+        InventoryRepository inventoryRepository = new InventoryRepository(storeOptions);
+        InventorySnapshot catalog = inventoryRepository.load();
+        PromotionCalendar promotionCalendar = new PromotionCalendar(catalog.getPromotionRegistry().getPromotions());
+        ReplenishmentConsumer replenishmentConsumer = startReplenishment(storeOptions, catalog.getInventory());
+        CheckoutServer server = new CheckoutServer(storeOptions, service, inventoryRepository,
+                catalog.getInventory(), promotionCalendar, salesLedger);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            service.close();
+            salesLedger.close();
+            closeReplenishment(replenishmentConsumer);
+            inventoryRepository.checkpoint();
+            inventoryRepository.close();
+        }));
+        server.serve();
+    }
+
+    /**
+     * 도매 주문 파일을 안내 질문 없이 처리한다. 응답은 정가 결제, 무료 증정, 멤버십 순서의 Y/N 이며 생략하면 모두 Y 이다.
+     * 예) import orders.csv Y Y N
+     */
+    private static void runImport(final StoreService service, final StoreOptions storeOptions,
+                                  final SalesLedger salesLedger, final String[] args) {
+        OutputView outputView = new OutputView();
+        try (InventoryRepository inventoryRepository = new InventoryRepository(storeOptions)) {
+            InventorySnapshot catalog = inventoryRepository.load();
+            PromotionCalendar promotionCalendar = new PromotionCalendar(
+                    catalog.getPromotionRegistry().getPromotions());
+            BatchOrderEngine batchOrderEngine = new BatchOrderEngine(service, catalog.getInventory(),
+                    promotionCalendar, toAnswerPolicy(args), salesLedger);
+            ReplenishmentConsumer replenishmentConsumer = startReplenishment(storeOptions, catalog.getInventory());
+            BatchSummary batchSummary;
+            try {
+                batchSummary = new OrderFileImporter(batchOrderEngine, catalog.getInventory()).importFile(
+                        Path.of(args[IMPORT_FILE_INDEX]), receipt -> {
+                            inventoryRepository.commit();
+                            outputView.showReceipt(receipt);
+                        });
+            } finally {
+                closeReplenishment(replenishmentConsumer);
+            }
+            outputView.showBatchSummary(batchSummary);
+            inventoryRepository.checkpoint();
+        }
+    }
+
+    private static AnswerPolicy toAnswerPolicy(final String[] args) {
+        if (args.length < IMPORT_ANSWERS_INDEX + ANSWER_COUNT) {
+            return AnswerPolicy.of(true, true, true);
+        }
+        return AnswerPolicy.of(Answer.from(args[IMPORT_ANSWERS_INDEX]).isYes(),
+                Answer.from(args[IMPORT_ANSWERS_INDEX + 1]).isYes(),
+                Answer.from(args[IMPORT_ANSWERS_INDEX + 2]).isYes());
+    }
 }
@@ -0,0 +1,100 @@
+package store.analytics;
+
+import static store.analytics.SalesLog.CHUNK_BITS;
+import static store.analytics.SalesLog.CHUNK_SIZE;
+import static store.analytics.SalesLog.NO_PROMOTION;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import store.analytics.SalesLog.Chunk;
+import store.domain.promotion.PurchaseType;
+
+/**
+ * 판매 기록을 묶음 단위로 나누어 공용 ForkJoinPool 에서 병렬로 집계한다.
+ * 묶음마다 상품 번호와 프로모션 번호로 색인한 배열에 합산한 뒤 합치므로, 줄마다 맵을 조회하거나 객체를 만들지 않는다.
+ */
+public class SalesAnalytics {
+
+    private static final PurchaseType[] PURCHASE_TYPES = PurchaseType.values();
+
+    private SalesAnalytics() {
+    }
+
+    // 집계를 시작한 시점까지 덧붙여진 줄만 본다.
+    public static SalesReport aggregate(final SalesLog salesLog) {
+        int size = salesLog.size();
+        long receiptCount = salesLog.getReceiptCount();
+        Chunk[] chunks = salesLog.chunks();
+        String[] productNames = salesLog.productNames();
+        String[] promotionNames = salesLog.promotionNames();
+        int chunkCount = (size + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        Totals totals = IntStream.range(0, chunkCount)
+                .parallel()
+                .collect(() -> new Totals(productNames.length, promotionNames.length),
+                        (partial, chunkIndex) -> partial.add(chunks[chunkIndex],
+                                Math.min(CHUNK_SIZE, size - (chunkIndex << CHUNK_BITS))),
+                        Totals::merge);
+        return totals.toReport(productNames, promotionNames, receiptCount, size);
+    }
+
+    private static final class Totals {
+
+        private final long[] revenues;
+        private final long[] giftCosts;
+        private final long[] quantitiesByType;
+        private long membershipDiscountAmount;
+
+        private Totals(final int productCount, final int promotionCount) {
+            this.revenues = new long[productCount];
+            this.giftCosts = new long[promotionCount];
+            this.quantitiesByType = new long[PURCHASE_TYPES.length];
+        }
+
+        private void add(final Chunk chunk, final int rows) {
+            for (int i = 0; i < rows; i++) {
+                long price = chunk.prices[i];
+                long giftCost = price * chunk.giftQuantities[i];
+                revenues[chunk.productIds[i]] += price * chunk.quantities[i] - giftCost;
+                int promotionId = chunk.promotionIds[i];
+                if (promotionId != NO_PROMOTION) {
+                    giftCosts[promotionId] += giftCost;
+                }
+                quantitiesByType[chunk.purchaseTypes[i]] += chunk.quantities[i];
+                membershipDiscountAmount += chunk.membershipDiscounts[i];
+            }
+        }
+
+        private void merge(final Totals other) {
+            addAll(revenues, other.revenues);
+            addAll(giftCosts, other.giftCosts);
+            addAll(quantitiesByType, other.quantitiesByType);
+            membershipDiscountAmount += other.membershipDiscountAmount;
+        }
+
+        private static void addAll(final long[] target, final long[] source) {
+            for (int i = 0; i < target.length; i++) {
+                target[i] += source[i];
+            }
+        }
+
+        private SalesReport toReport(final String[] productNames, final String[] promotionNames,
+                                     final long receiptCount, final long lineCount) {
+            Map<PurchaseType, Long> quantityByPurchaseType = new EnumMap<>(PurchaseType.class);
+            for (PurchaseType purchaseType : PURCHASE_TYPES) {
+                quantityByPurchaseType.put(purchaseType, quantitiesByType[purchaseType.ordinal()]);
+            }
+            return new SalesReport(toMap(productNames, revenues), toMap(promotionNames, giftCosts),
+                    membershipDiscountAmount, quantityByPurchaseType, receiptCount, lineCount);
+        }
+
+        private static Map<String, Long> toMap(final String[] names, final long[] values) {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                map.put(names[i], values[i]);
+            }
+            return map;
+        }
+    }
+}
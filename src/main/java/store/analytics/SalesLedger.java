@@ -0,0 +1,81 @@
+package store.analytics;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiConsumer;
+import store.domain.order.OrderResult;
+
+/**
+ * 영업일마다 새 판매 기록에 덧붙이는 판매 장부. 날짜가 바뀐 뒤 첫 거래가 확정되거나 장부를 닫으면,
+ * 지난 영업일의 기록을 집계하여 보고서 처리기에 넘기고 버린다. 따라서 메모리에는 하루치 기록만 남는다.
+ * -Dstore.sales 로 켜며, 꺼져 있으면 아무것도 기록하지 않는다.
+ */
+public class SalesLedger implements AutoCloseable {
+
+    private final BiConsumer<LocalDate, SalesReport> reportHandler;
+    private LocalDate businessDate;
+    private SalesLog salesLog;
+
+    public SalesLedger(final BiConsumer<LocalDate, SalesReport> reportHandler) {
+        this.reportHandler = reportHandler;
+    }
+
+    public static SalesLedger disabled() {
+        return new SalesLedger(null);
+    }
+
+    public boolean isEnabled() {
+        return reportHandler != null;
+    }
+
+    // 거래 하나의 주문 줄을 오늘 기록에 덧붙인다. 여러 계산대가 동시에 호출할 수 있다.
+    public void append(final List<OrderResult> orderResults) {
+        append(orderResults, DateTimes.now().toLocalDate());
+    }
+
+    void append(final List<OrderResult> orderResults, final LocalDate date) {
+        if (!isEnabled()) {
+            return;
+        }
+        LocalDate closedDate = null;
+        SalesLog closedLog = null;
+        synchronized (this) {
+            if (!date.equals(businessDate)) {
+                closedDate = businessDate;
+                closedLog = salesLog;
+                businessDate = date;
+                salesLog = new SalesLog();
+            }
+            salesLog.append(orderResults);
+        }
+        // 지난 영업일의 집계와 파일 기록은 락 밖에서 하여 다른 계산대를 막지 않는다.
+        report(closedDate, closedLog);
+    }
+
+    // 현재 영업일의 기록. 아직 거래가 없으면 null
+    synchronized SalesLog current() {
+        return salesLog;
+    }
+
+    // 현재 영업일을 마감하고 보고서를 넘긴다. 종료 시 호출한다.
+    @Override
+    public void close() {
+        LocalDate closedDate;
+        SalesLog closedLog;
+        synchronized (this) {
+            closedDate = businessDate;
+            closedLog = salesLog;
+            businessDate = null;
+            salesLog = null;
+        }
+        report(closedDate, closedLog);
+    }
+
+    private void report(final LocalDate date, final SalesLog closedLog) {
+        if (closedLog == null || closedLog.size() == 0) {
+            return;
+        }
+        reportHandler.accept(date, SalesAnalytics.aggregate(closedLog));
+    }
+}
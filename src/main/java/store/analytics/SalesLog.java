@@ -0,0 +1,149 @@
+package store.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import store.domain.order.OrderResult;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+/**
+ * 영업일 하루 동안 확정된 거래의 주문 줄을 열 단위 배열에 덧붙이는 판매 기록. 상품명과 프로모션명은 번호로 바꾸어
+ * 한 줄에 약 25바이트를 쓴다. 배열은 고정 크기 묶음으로 늘려 덧붙일 때 복사하지 않으며, 집계는 묶음마다 나누어 병렬로 처리한다.
+ * 날짜가 바뀌면 SalesLedger 가 새 기록으로 바꾸므로 하루치만 메모리에 남는다.
+ */
+public class SalesLog {
+
+    static final int CHUNK_BITS = 14;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    static final int NO_PROMOTION = -1;
+
+    private static final int INITIAL_NAME_CAPACITY = 16;
+
+    private final Map<String, Integer> productIds;
+    private final Map<String, Integer> promotionIds;
+    // 아래 배열과 묶음은 쓰는 쪽이 새로 만들어 바꿔 끼우며, 읽는 쪽은 size 를 먼저 읽은 뒤 가져간다.
+    // 이름 배열은 두 배씩 늘리며, 앞의 count 개만 유효하다.
+    private volatile String[] productNames;
+    private volatile int productCount;
+    private volatile String[] promotionNames;
+    private volatile int promotionCount;
+    private volatile Chunk[] chunks;
+    private volatile int size;
+    private volatile long receiptCount;
+
+    public SalesLog() {
+        this.productIds = new HashMap<>();
+        this.promotionIds = new HashMap<>();
+        this.productNames = new String[INITIAL_NAME_CAPACITY];
+        this.promotionNames = new String[INITIAL_NAME_CAPACITY];
+        this.chunks = new Chunk[0];
+    }
+
+    // 거래 하나의 주문 줄을 덧붙인다. 여러 계산대가 동시에 호출할 수 있다.
+    public synchronized void append(final List<OrderResult> orderResults) {
+        int row = size;
+        for (OrderResult orderResult : orderResults) {
+            Chunk chunk = chunkFor(row);
+            int index = row & (CHUNK_SIZE - 1);
+            PurchaseResult purchaseResult = orderResult.purchaseResult();
+            GiftResult giftResult = orderResult.giftResult();
+            chunk.productIds[index] = productIdOf(purchaseResult.productName());
+            chunk.promotionIds[index] = promotionIdOf(orderResult.promotionName());
+            chunk.purchaseTypes[index] = (byte) orderResult.purchaseType().ordinal();
+            chunk.quantities[index] = purchaseResult.quantity();
+            chunk.giftQuantities[index] = giftResult.quantity();
+            chunk.prices[index] = purchaseResult.price();
+            chunk.membershipDiscounts[index] = orderResult.membershipDiscountAmount();
+            row++;
+        }
+        receiptCount++;
+        // 줄을 모두 쓴 뒤 크기를 늘려 읽는 쪽이 쓰는 중인 줄을 보지 않게 한다.
+        size = row;
+    }
+
+    private Chunk chunkFor(final int row) {
+        int chunkIndex = row >>> CHUNK_BITS;
+        Chunk[] current = chunks;
+        if (chunkIndex < current.length) {
+            return current[chunkIndex];
+        }
+        Chunk[] grown = Arrays.copyOf(current, chunkIndex + 1);
+        grown[chunkIndex] = new Chunk();
+        chunks = grown;
+        return grown[chunkIndex];
+    }
+
+    private int productIdOf(final String productName) {
+        Integer id = productIds.get(productName);
+        if (id != null) {
+            return id;
+        }
+        int newId = productCount;
+        productNames = withName(productNames, newId, productName);
+        productIds.put(productName, newId);
+        productCount = newId + 1;
+        return newId;
+    }
+
+    private int promotionIdOf(final String promotionName) {
+        if (promotionName == null) {
+            return NO_PROMOTION;
+        }
+        Integer id = promotionIds.get(promotionName);
+        if (id != null) {
+            return id;
+        }
+        int newId = promotionCount;
+        promotionNames = withName(promotionNames, newId, promotionName);
+        promotionIds.put(promotionName, newId);
+        promotionCount = newId + 1;
+        return newId;
+    }
+
+    // 자리가 없으면 두 배로 늘린 배열에 이름을 쓴다.
+    private static String[] withName(final String[] names, final int id, final String name) {
+        String[] target = names;
+        if (id == names.length) {
+            target = Arrays.copyOf(names, names.length * 2);
+        }
+        target[id] = name;
+        return target;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getReceiptCount() {
+        return receiptCount;
+    }
+
+    Chunk[] chunks() {
+        return chunks;
+    }
+
+    // 개수를 먼저 읽어, 그 이후에 추가된 이름은 잘라낸다.
+    String[] productNames() {
+        int count = productCount;
+        return Arrays.copyOf(productNames, count);
+    }
+
+    String[] promotionNames() {
+        int count = promotionCount;
+        return Arrays.copyOf(promotionNames, count);
+    }
+
+    // 주문 줄 CHUNK_SIZE 개의 열
+    static final class Chunk {
+
+        final int[] productIds = new int[CHUNK_SIZE];
+        final int[] promotionIds = new int[CHUNK_SIZE];
+        final byte[] purchaseTypes = new byte[CHUNK_SIZE];
+        final int[] quantities = new int[CHUNK_SIZE];
+        final int[] giftQuantities = new int[CHUNK_SIZE];
+        final int[] prices = new int[CHUNK_SIZE];
+        final int[] membershipDiscounts = new int[CHUNK_SIZE];
+    }
+}
@@ -0,0 +1,32 @@
+package store.analytics;
+
+import java.util.Map;
+import store.domain.promotion.PurchaseType;
+
+/**
+ * 하루 판매 집계. 상품별 매출은 증정 금액을 뺀 판매 금액이며, 멤버십 할인은 상품별로 나누지 않고 따로 합산한다.
+ * 구매 유형별 수량은 정가 구매와 프로모션 구매가 각각 얼마나 팔렸는지를 나타낸다.
+ */
+public record SalesReport(Map<String, Long> revenueByProduct, Map<String, Long> giftCostByPromotion,
+                          long membershipDiscountAmount, Map<PurchaseType, Long> quantityByPurchaseType,
+                          long receiptCount, long lineCount) {
+
+    private static final String LINE = System.lineSeparator();
+
+    // 지표 파일과 같이 한 줄에 하나씩 "이름{레이블} 값" 형식으로 쓴다.
+    public void writeTo(final StringBuilder builder) {
+        writeValue(builder, "sales_receipts_total", receiptCount);
+        writeValue(builder, "sales_lines_total", lineCount);
+        revenueByProduct.forEach((productName, revenue) ->
+                writeValue(builder, "sales_revenue{product=\"" + productName + "\"}", revenue));
+        giftCostByPromotion.forEach((promotionName, giftCost) ->
+                writeValue(builder, "sales_gift_cost{promotion=\"" + promotionName + "\"}", giftCost));
+        writeValue(builder, "sales_membership_discount_total", membershipDiscountAmount);
+        quantityByPurchaseType.forEach((purchaseType, quantity) ->
+                writeValue(builder, "sales_quantity{type=\"" + purchaseType.name() + "\"}", quantity));
+    }
+
+    private void writeValue(final StringBuilder builder, final String name, final long value) {
+        builder.append(name).append(' ').append(value).append(LINE);
+    }
+}
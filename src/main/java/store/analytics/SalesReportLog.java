@@ -0,0 +1,37 @@
+package store.analytics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
+/**
+ * 마감한 영업일의 판매 집계를 "# 날짜" 줄 아래에 이어서 파일 끝에 덧붙인다.
+ */
+public class SalesReportLog implements BiConsumer<LocalDate, SalesReport> {
+
+    private static final String LINE = System.lineSeparator();
+
+    private final Path file;
+
+    public SalesReportLog(final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void accept(final LocalDate businessDate, final SalesReport salesReport) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# ").append(businessDate).append(LINE);
+        salesReport.writeTo(builder);
+        try {
+            Files.writeString(file, builder, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package store.config;
+
+import java.nio.file.Path;
+
+// 실행 시 -D 옵션으로 켜는 부가 기능 설정
+public record StoreOptions(Path snapshotFile, Path journalFile, int serverPort, Path metricsFile,
+                           Path replenishmentFile, int lowStockThreshold, Path salesReportFile) {
+
+    private static final String SNAPSHOT_PROPERTY = "store.snapshot";
+    private static final String JOURNAL_PROPERTY = "store.journal";
+    private static final String PORT_PROPERTY = "store.port";
+    private static final String METRICS_PROPERTY = "store.metrics";
+    private static final String REPLENISHMENT_PROPERTY = "store.replenishment";
+    private static final String LOW_STOCK_PROPERTY = "store.lowStock";
+    private static final String SALES_PROPERTY = "store.sales";
+    private static final int DEFAULT_PORT = 9090;
+    private static final int DEFAULT_LOW_STOCK_THRESHOLD = 5;
+
+    public static StoreOptions fromSystemProperties() {
+        return new StoreOptions(toPath(System.getProperty(SNAPSHOT_PROPERTY)),
+                toPath(System.getProperty(JOURNAL_PROPERTY)),
+                Integer.getInteger(PORT_PROPERTY, DEFAULT_PORT),
+                toPath(System.getProperty(METRICS_PROPERTY)),
+                toPath(System.getProperty(REPLENISHMENT_PROPERTY)),
+                Integer.getInteger(LOW_STOCK_PROPERTY, DEFAULT_LOW_STOCK_THRESHOLD),
+                toPath(System.getProperty(SALES_PROPERTY)));
+    }
+
+    public static StoreOptions defaults() {
+        return new StoreOptions(null, null, DEFAULT_PORT, null, null, DEFAULT_LOW_STOCK_THRESHOLD, null);
+    }
+
+    private static Path toPath(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Path.of(value);
+    }
+
+    public boolean isSnapshotEnabled() {
+        return snapshotFile != null;
+    }
+
+    // 판매 기록은 되돌아갈 스냅샷이 있어야 의미가 있다.
+    public boolean isJournalEnabled() {
+        return isSnapshotEnabled() && journalFile != null;
+    }
+
+    // 지연 시간과 판매 지표를 모아 주기적으로 파일에 쓴다.
+    public boolean isMetricsEnabled() {
+        return metricsFile != null;
+    }
+
+    // 남은 수량이 -Dstore.lowStock 이하가 된 상품을 보충 요청 파일에 남긴다.
+    public boolean isReplenishmentEnabled() {
+        return replenishmentFile != null;
+    }
+
+    // 확정된 거래를 판매 기록에 모아 두고, 종료할 때 하루 판매 집계를 파일에 쓴다.
+    public boolean isSalesReportEnabled() {
+        return salesReportFile != null;
+    }
+}
@@ -1,171 +1,184 @@
 package store.controller;
 
-import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
-import static store.exception.ErrorMessage.INVALID_ORDER_FORMAT;
+import static store.exception.ErrorMessage.INVALID_PRODUCT;
 
-import java.time.LocalDate;
+import camp.nextstep.edu.missionutils.DateTimes;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+import store.analytics.SalesLedger;
+import store.config.StoreOptions;
 import store.domain.command.Answer;
 import store.domain.order.Order;
 import store.domain.order.OrderResult;
 import store.domain.order.Orders;
-import store.domain.product.Product;
 import store.domain.product.stock.Inventory;
 import store.domain.product.stock.ProductStock;
-import store.domain.promotion.Promotion;
+import store.domain.product.stock.StockHold;
+import store.domain.product.stock.StockTransaction;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.PromotionCalendar;
 import store.domain.promotion.PromotionResult;
 import store.domain.receipt.Receipt;
+import store.exception.CustomIllegalArgumentException;
+import store.metrics.CheckoutMetrics;
+import store.metrics.CheckoutStage;
+import store.persistence.InventoryRepository;
+import store.persistence.InventorySnapshot;
 import store.service.StoreService;
 import store.util.ExceptionHandler;
-import store.util.FileContentParser;
-import store.util.InputValidator;
-import store.util.StoreFileReader;
-import store.util.StringParser;
+import store.util.OrderParser;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class StoreController {
 
-    private static final String ORDER_REGEX = "^\\[([가-힣a-zA-Z]+)-([1-9]\\d*)\\]$";
-    private static final Pattern PATTERN = Pattern.compile(ORDER_REGEX);
-
     private final InputView inputView;
     private final OutputView outputView;
     private final ExceptionHandler exceptionHandler;
     private final StoreService storeService;
+    private final StoreOptions storeOptions;
+    private final CheckoutMetrics checkoutMetrics = CheckoutMetrics.global();
+    private final SalesLedger salesLedger;
 
     public StoreController(final InputView inputView, final OutputView outputView,
                            final ExceptionHandler exceptionHandler,
-                           final StoreService storeService) {
+                           final StoreService storeService, final StoreOptions storeOptions,
+                           final SalesLedger salesLedger) {
         this.inputView = inputView;
         this.outputView = outputView;
         this.exceptionHandler = exceptionHandler;
         this.storeService = storeService;
+        this.storeOptions = storeOptions;
+        this.salesLedger = salesLedger;
     }
 
     public void process() {
+        try (InventoryRepository inventoryRepository = new InventoryRepository(storeOptions)) {
+            InventorySnapshot catalog = inventoryRepository.load();
+            PromotionCalendar promotionCalendar = new PromotionCalendar(
+                    catalog.getPromotionRegistry().getPromotions());
+            checkout(inventoryRepository, catalog.getInventory(), promotionCalendar);
+            inventoryRepository.checkpoint();
+        }
+    }
+
+    // 한 고객의 구매 과정. 서버 모드에서는 세션마다 공유 재고로 호출된다.
+    public Receipt checkout(final InventoryRepository inventoryRepository, final Inventory inventory,
+                            final PromotionCalendar promotionCalendar) {
         outputView.showWelcome();
-        // 프로모션 -> 인벤토리
-        List<Promotion> promotions = makePromotions();
-        Inventory inventory = makeInventory(promotions);
         outputView.showInventory(inventory);
-        Orders orders = makeOrders();
-        Receipt receipt = processOrders(inventory, orders);
+        // 재고가 부족하면 거래 전체가 되돌려지므로 주문부터 다시 입력받는다.
+        Receipt receipt = exceptionHandler.retryOn(
+                () -> processOrders(inventoryRepository, inventory, makeOrders(inventory), promotionCalendar));
+        outputView.showReceipt(receipt);
+        return receipt;
     }
 
-    private Receipt processOrders(final Inventory inventory, final Orders orders) {
+    private Receipt processOrders(final InventoryRepository inventoryRepository, final Inventory inventory,
+                                  final Orders orders, final PromotionCalendar promotionCalendar) {
+        // 거래 단위로 한 번만 날짜를 확인
+        ActivePromotions activePromotions = promotionCalendar.activeOn(DateTimes.now().toLocalDate());
         List<OrderResult> orderResults = new ArrayList<>();
-        for (Order order : orders.getOrders()) {
-            OrderResult orderResult = processOrder(inventory, order);
-            orderResults.add(orderResult);
+        // 한 주문이라도 실패하면 앞서 차감한 주문도 되돌린다.
+        try (StockTransaction transaction = StockTransaction.begin()) {
+            for (Order order : orders.getOrders()) {
+                OrderResult orderResult = processOrder(inventory, order, activePromotions);
+                orderResults.add(orderResult);
+            }
+            transaction.commit();
         }
-        return Receipt.from(orderResults);
+        // 거래 단위로 재고 변경을 확정
+        inventoryRepository.commit();
+        salesLedger.append(orderResults);
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.RECEIPT_BUILD);
+        Receipt receipt = Receipt.from(orderResults);
+        checkoutMetrics.stopTimer(CheckoutStage.RECEIPT_BUILD, startNanos);
+        return receipt;
     }
 
-    private OrderResult processOrder(final Inventory inventory, final Order order) {
-        ProductStock productStock = inventory.getProductStock(order.getName());
-        PromotionResult promotionResult = storeService.processOrder(order.getQuantity(), productStock);
-        promotionResult = processPaymentOption(productStock, promotionResult);
-        promotionResult = processBenefitOption(productStock, promotionResult);
-        int membershipDiscount = processMembership(productStock, promotionResult);
-        return OrderResult.of(productStock, promotionResult, membershipDiscount);
+    private OrderResult processOrder(final Inventory inventory, final Order order,
+                                     final ActivePromotions activePromotions) {
+        ProductStock productStock = findProductStock(inventory, order.getName());
+        // 안내 질문에 응답하는 동안 안내한 수량을 잡아 둔다.
+        StockHold stockHold = storeService.processOrderWithHold(order.getQuantity(), productStock,
+                activePromotions);
+        try {
+            PromotionResult promotionResult = stockHold.getPromotionResult();
+            promotionResult = processPaymentOption(stockHold, productStock, promotionResult);
+            promotionResult = processBenefitOption(stockHold, productStock, promotionResult);
+            int membershipDiscount = processMembership(productStock, promotionResult);
+            return OrderResult.of(productStock, promotionResult, membershipDiscount);
+        } finally {
+            stockHold.release();
+        }
     }
 
-    private Orders makeOrders() {
+    private ProductStock findProductStock(final Inventory inventory, final String productName) {
+        ProductStock productStock = inventory.getProductStock(productName);
+        if (productStock == null) {
+            throw new CustomIllegalArgumentException(INVALID_PRODUCT);
+        }
+        return productStock;
+    }
+
+    private Orders makeOrders(final Inventory inventory) {
         outputView.requestOrder();
-        return createOrders();
+        return createOrders(inventory);
     }
 
+    // 안내 단계의 지연 시간은 응답을 읽은 뒤 반영을 마칠 때까지이며, 질문을 보내고 고객이 응답하는 시간은 포함하지 않는다.
     private int processMembership(final ProductStock productStock, final PromotionResult promotionResult) {
         outputView.requestMembership();
         boolean wantMembership = Answer.from(inputView.readMembershipAnswer()).isYes();
-        if (wantMembership) {
-            return storeService.processMembership(productStock.getProductPrice(), promotionResult);
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.MEMBERSHIP_PROMPT);
+        try {
+            if (wantMembership) {
+                return storeService.processMembership(productStock.getProductPrice(), promotionResult);
+            }
+            return 0;
+        } finally {
+            checkoutMetrics.stopTimer(CheckoutStage.MEMBERSHIP_PROMPT, startNanos);
         }
-        return 0;
     }
 
-    private PromotionResult processPaymentOption(final ProductStock productStock,
+    private PromotionResult processPaymentOption(final StockHold stockHold, final ProductStock productStock,
                                                  final PromotionResult promotionResult) {
         if (!promotionResult.askRegularPayment()) {
             return promotionResult;
         }
         outputView.requestRegularPayment(productStock.getProductName(), promotionResult.regularPriceQuantity());
         boolean wantRegularPayment = Answer.from(inputView.readRegularPayment()).isYes();
-        if (wantRegularPayment) {
-            return storeService.processRegularPayment(productStock, promotionResult);
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.REGULAR_PAYMENT_PROMPT);
+        try {
+            if (wantRegularPayment) {
+                return stockHold.redeem(() -> storeService.processRegularPayment(productStock, promotionResult));
+            }
+            return stockHold.redeem(() -> storeService.processOnlyPromotionPayment(productStock, promotionResult));
+        } finally {
+            checkoutMetrics.stopTimer(CheckoutStage.REGULAR_PAYMENT_PROMPT, startNanos);
         }
-        return storeService.processOnlyPromotionPayment(productStock, promotionResult);
     }
 
-    private PromotionResult processBenefitOption(final ProductStock productStock,
+    private PromotionResult processBenefitOption(final StockHold stockHold, final ProductStock productStock,
                                                  final PromotionResult promotionResult) {
         if (!promotionResult.askBenefit()) {
             return promotionResult;
         }
         outputView.requestBenefit(productStock.getProductName());
         boolean wantBenefit = Answer.from(inputView.readBenefitAnswer()).isYes();
-        if (wantBenefit) {
-            return storeService.processBenefitOption(productStock, promotionResult);
-        }
-        return storeService.processNoBenefitOption(productStock, promotionResult);
-    }
-
-    private Orders createOrders() {
-        List<Order> orders = new ArrayList<>();
-        return exceptionHandler.retryOn(() -> {
-            List<String> inputs = inputView.readOrder();
-            for (String input : inputs) {
-                Order order = createOrder(input);
-                orders.add(order);
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.BENEFIT_PROMPT);
+        try {
+            if (wantBenefit) {
+                return stockHold.redeem(() -> storeService.processBenefitOption(productStock, promotionResult));
             }
-            return new Orders(orders);
-        });
-    }
-
-    private Order createOrder(final String input) {
-        InputValidator.isInvalidPattern(input, PATTERN, INVALID_ORDER_FORMAT);
-        List<String> groups = StringParser.findMatchingGroups(input, PATTERN);
-        int quantity = StringParser.parseToInteger(groups.get(1), INVALID_ORDER_FORMAT);
-        return new Order(groups.get(0), quantity);
-    }
-
-    private List<Promotion> makePromotions() {
-        List<String> inputs = FileContentParser.removeHeaders(StoreFileReader.readPromotions());
-        List<Promotion> promotions = new ArrayList<>();
-        for (String input : inputs) {
-            List<String> tokens = StringParser.parseByDelimiter(input, ",");
-            String name = tokens.get(0);
-            int buyQuantity = StringParser.parseToInteger(tokens.get(1), INVALID_FILE_FORMAT);
-            int getQuantity = StringParser.parseToInteger(tokens.get(2), INVALID_FILE_FORMAT);
-            LocalDate startDate = LocalDate.parse(tokens.get(3));
-            LocalDate endDate = LocalDate.parse(tokens.get(4));
-            promotions.add(new Promotion(name, buyQuantity, getQuantity, startDate, endDate));
-        }
-        return promotions;
-    }
-
-    private Inventory makeInventory(final List<Promotion> promotions) {
-        List<String> inputs = FileContentParser.removeHeaders(StoreFileReader.readInventories());
-        Inventory inventory = new Inventory();
-        for (String input : inputs) {
-            List<String> tokens = StringParser.parseByDelimiter(input, ",");
-            String productName = tokens.get(0);
-            int price = StringParser.parseToInteger(tokens.get(1), INVALID_FILE_FORMAT);
-            int quantity = StringParser.parseToInteger(tokens.get(2), INVALID_FILE_FORMAT);
-            Promotion promotion = findPromotion(promotions, tokens.get(3));
-            Product product = new Product(productName, price, promotion);
-            inventory.addProductStock(product, quantity);
+            return stockHold.redeem(() -> storeService.processNoBenefitOption(productStock, promotionResult));
+        } finally {
+            checkoutMetrics.stopTimer(CheckoutStage.BENEFIT_PROMPT, startNanos);
         }
-        return inventory;
     }
 
-    private Promotion findPromotion(final List<Promotion> promotions, final String name) {
-        return promotions.stream()
-                .filter(promotion2 -> promotion2.hasName(name))
-                .findFirst()
-                .orElse(null);
+    // 없는 상품은 주문을 입력받는 단계에서 바로 다시 입력받는다.
+    private Orders createOrders(final Inventory inventory) {
+        return exceptionHandler.retryOn(() -> OrderParser.parse(inputView.readOrder(), inventory));
     }
 }
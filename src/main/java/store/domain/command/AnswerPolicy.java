@@ -0,0 +1,9 @@
+package store.domain.command;
+
+// 콘솔 입력 없이 일괄 처리할 때 사용할 미리 정해진 응답
+public record AnswerPolicy(boolean regularPayment, boolean benefit, boolean membership) {
+
+    public static AnswerPolicy of(final boolean regularPayment, final boolean benefit, final boolean membership) {
+        return new AnswerPolicy(regularPayment, benefit, membership);
+    }
+}
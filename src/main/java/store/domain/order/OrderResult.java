@@ -1,16 +1,29 @@
 package store.domain.order;
 
 import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
 import store.domain.promotion.PromotionResult;
+import store.domain.promotion.PurchaseType;
 import store.domain.receipt.Receipt.GiftResult;
 import store.domain.receipt.Receipt.PurchaseResult;
 
-public record OrderResult(PurchaseResult purchaseResult, GiftResult giftResult, int membershipDiscountAmount) {
+// 구매 유형과 프로모션명(없으면 null)은 영수증에 출력하지 않고 판매 분석에만 사용한다.
+public record OrderResult(PurchaseResult purchaseResult, GiftResult giftResult, int membershipDiscountAmount,
+                          PurchaseType purchaseType, String promotionName) {
 
     public static OrderResult of(ProductStock productStock, PromotionResult promotionResult,
                                  int membershipDiscountAmount) {
         PurchaseResult purchaseResult = PurchaseResult.of(productStock.getProduct(), promotionResult);
         GiftResult giftResult = GiftResult.of(productStock.getProduct(), promotionResult);
-        return new OrderResult(purchaseResult, giftResult, membershipDiscountAmount);
+        return new OrderResult(purchaseResult, giftResult, membershipDiscountAmount,
+                promotionResult.purchaseType(), findPromotionName(productStock));
+    }
+
+    private static String findPromotionName(final ProductStock productStock) {
+        Promotion promotion = productStock.getPromotion();
+        if (promotion == null) {
+            return null;
+        }
+        return promotion.getName();
     }
 }
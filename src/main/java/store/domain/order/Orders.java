@@ -4,7 +4,9 @@ import static store.exception.ErrorMessage.INVALID_INPUT;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import store.exception.CustomIllegalArgumentException;
 
 public class Orders {
@@ -20,12 +22,13 @@ public class Orders {
         return Collections.unmodifiableList(orders);
     }
 
+    // 같은 상품이 처음 다시 나올 때 바로 멈춘다.
     private void validate(final List<Order> orders) {
-        int distinctSize = (int) orders.stream()
-                .distinct()
-                .count();
-        if (distinctSize != orders.size()) {
-            throw new CustomIllegalArgumentException(INVALID_INPUT);
+        Set<Order> distinctOrders = new HashSet<>(orders.size() * 2);
+        for (Order order : orders) {
+            if (!distinctOrders.add(order)) {
+                throw new CustomIllegalArgumentException(INVALID_INPUT);
+            }
         }
     }
 }
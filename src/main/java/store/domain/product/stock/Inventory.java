@@ -1,30 +1,124 @@
 package store.domain.product.stock;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import store.domain.product.Product;
 
+// 여러 계산대가 동시에 조회할 수 있도록 상품명 -> 재고를 ConcurrentHashMap으로 관리한다.
+// 재고 수량 변경은 상품별 락(ProductStock)으로 보호되므로 전역 락이 없다.
 public class Inventory {
 
     private final Map<String, ProductStock> inventory;
+    private final List<ProductStock> productStocks;
+    // 모든 재고의 수량. 상품 번호(등록 순서)로 색인한다.
+    private final StockColumns columns;
+    private StockChangeListener listener;
+    // 주문 입력에서 상품명을 찾을 때 사용. 상품이 등록되면 비우고 다음 조회 때 다시 만든다.
+    private volatile ProductNameIndex nameIndex;
 
     public Inventory() {
-        this.inventory = new LinkedHashMap<>();
+        this.inventory = new ConcurrentHashMap<>();
+        this.productStocks = new ArrayList<>();
+        this.columns = new StockColumns();
+        // 진행 중인 거래가 있으면 되돌릴 수 있도록 변경을 기록
+        this.listener = StockTransaction::record;
     }
 
-    public Map<String, ProductStock> getInventory() {
-        return inventory;
+    // 등록된 모든 재고와 이후 추가되는 재고의 수량 변경을 전달받는다.
+    public synchronized void addStockChangeListener(final StockChangeListener stockChangeListener) {
+        listener = listener.andThen(stockChangeListener);
+        for (ProductStock productStock : productStocks) {
+            productStock.setListener(listener);
+        }
+    }
+
+    // 모든 상품의 락을 등록 순서대로 잡은 상태에서 실행하여, 진행 중인 수량 변경이 없는 시점을 만든다.
+    public synchronized void runWithAllLocked(final Runnable action) {
+        int locked = 0;
+        try {
+            for (ProductStock productStock : productStocks) {
+                productStock.lock();
+                locked++;
+            }
+            action.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                productStocks.get(i).unlock();
+            }
+        }
+    }
+
+    // 파일 저장 순서대로 재고를 반환
+    public List<ProductStock> getProductStocks() {
+        return Collections.unmodifiableList(productStocks);
+    }
+
+    // 상품 등록과 겹치지 않도록 현재 재고 목록을 복사한다.
+    synchronized List<ProductStock> copyProductStocks() {
+        return List.copyOf(productStocks);
+    }
+
+    StockColumns getColumns() {
+        return columns;
     }
 
     public ProductStock getProductStock(final String productName) {
         return inventory.get(productName);
     }
 
-    public void addProductStock(final Product product, final int quantity) {
+    // 상품명을 잘라내지 않고 text의 [start, end) 구간으로 재고를 찾는다. 없으면 null
+    public ProductStock findProductStock(final String text, final int start, final int end) {
+        ProductNameIndex index = nameIndex;
+        if (index == null) {
+            index = buildNameIndex();
+        }
+        return index.find(text, start, end);
+    }
+
+    private synchronized ProductNameIndex buildNameIndex() {
+        if (nameIndex == null) {
+            nameIndex = ProductNameIndex.of(productStocks);
+        }
+        return nameIndex;
+    }
+
+    // 상품 등록은 재고 적재 시점에만 일어나므로 간단히 동기화한다.
+    public synchronized void addProductStock(final Product product, final int quantity) {
         String productName = product.getName();
-        ProductStock productStock = inventory.getOrDefault(productName, new ProductStock(product));
+        ProductStock productStock = inventory.get(productName);
+        if (productStock == null) {
+            productStock = new ProductStock(product);
+            productStock.attach(columns, productStocks.size());
+            productStock.setListener(listener);
+            inventory.put(productName, productStock);
+            productStocks.add(productStock);
+            nameIndex = null;
+        }
         productStock.addQuantity(product, quantity, productStock);
-        inventory.put(productName, productStock);
+    }
+
+    // 이미 만들어진 재고를 추가. 같은 상품이 있으면 수량을 합친다.
+    public synchronized void addProductStock(final ProductStock otherStock) {
+        ProductStock productStock = inventory.get(otherStock.getProductName());
+        if (productStock == null) {
+            otherStock.attach(columns, productStocks.size());
+            otherStock.setListener(listener);
+            inventory.put(otherStock.getProductName(), otherStock);
+            productStocks.add(otherStock);
+            nameIndex = null;
+            return;
+        }
+        productStock.merge(otherStock);
+    }
+
+    // 나누어 적재한 재고를 파일 순서대로 합친다. 같은 상품의 프로모션 행과 일반 행이 서로 다른 쪽에 있어도 하나로 합쳐진다.
+    public synchronized void merge(final Inventory other) {
+        for (ProductStock otherStock : other.getProductStocks()) {
+            addProductStock(otherStock);
+        }
     }
 
 }
@@ -0,0 +1,108 @@
+package store.domain.product.stock;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import store.domain.promotion.Promotion;
+
+/**
+ * 상품 번호(0부터 연속) 기준으로 재고를 조회한다. 상품명은 입구에서 한 번만 번호로 바꾸고,
+ * 이후 가격·수량 조회는 배열 인덱스로 처리한다.
+ * <p>
+ * 수량은 복사하지 않고 인벤토리의 수량 열을 그대로 읽으므로, 판매와 잡아 둔 수량이 바로 반영된다.
+ * 이름, 가격, 프로모션은 만든 시점에 등록된 상품만 담으며, 이후 등록된 상품은 찾을 수 없다.
+ */
+public class InventoryStore {
+
+    private static final int NOT_FOUND = -1;
+    private static final int NO_PROMOTION = -1;
+
+    private final StockColumns columns;
+    private final Map<String, Integer> ids;
+    private final String[] names;
+    private final int[] prices;
+    private final int[] promotionIndexes;
+    private final Promotion[] promotions;
+
+    private InventoryStore(final StockColumns columns, final List<ProductStock> productStocks) {
+        int size = productStocks.size();
+        this.columns = columns;
+        this.ids = new HashMap<>(size * 2);
+        this.names = new String[size];
+        this.prices = new int[size];
+        this.promotionIndexes = new int[size];
+        Map<Promotion, Integer> promotionTable = new IdentityHashMap<>();
+        for (ProductStock productStock : productStocks) {
+            int id = productStock.getId();
+            ids.put(productStock.getProductName(), id);
+            names[id] = productStock.getProductName();
+            prices[id] = productStock.getProductPrice();
+            promotionIndexes[id] = indexOf(productStock.getPromotion(), promotionTable);
+        }
+        this.promotions = new Promotion[promotionTable.size()];
+        promotionTable.forEach((promotion, index) -> promotions[index] = promotion);
+    }
+
+    public static InventoryStore from(final Inventory inventory) {
+        return new InventoryStore(inventory.getColumns(), inventory.copyProductStocks());
+    }
+
+    private static int indexOf(final Promotion promotion, final Map<Promotion, Integer> promotionTable) {
+        if (promotion == null) {
+            return NO_PROMOTION;
+        }
+        return promotionTable.computeIfAbsent(promotion, key -> promotionTable.size());
+    }
+
+    // 존재하지 않는 상품은 -1
+    public int idOf(final String productName) {
+        Integer id = ids.get(productName);
+        if (id == null) {
+            return NOT_FOUND;
+        }
+        return id;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String name(final int id) {
+        return names[id];
+    }
+
+    public int price(final int id) {
+        return prices[id];
+    }
+
+    public boolean hasPromotion(final int id) {
+        return promotionIndexes[id] != NO_PROMOTION;
+    }
+
+    // 프로모션이 없으면 null
+    public Promotion promotion(final int id) {
+        int index = promotionIndexes[id];
+        if (index == NO_PROMOTION) {
+            return null;
+        }
+        return promotions[index];
+    }
+
+    // 프로모션 재고가 등록되지 않은 상품은 0
+    public int promotionQuantity(final int id) {
+        return Math.max(columns.promotionQuantity(id), 0);
+    }
+
+    public int regularQuantity(final int id) {
+        return columns.regularQuantity(id);
+    }
+
+    public int totalQuantity(final int id) {
+        return promotionQuantity(id) + regularQuantity(id);
+    }
+
+    public boolean hasStock(final int id, final int quantity) {
+        return totalQuantity(id) >= quantity;
+    }
+}
@@ -0,0 +1,68 @@
+package store.domain.product.stock;
+
+import java.util.List;
+
+/**
+ * 입력 문자열의 일부 구간으로 바로 재고를 찾는 상품명 사전.
+ * 상품명을 잘라낸 문자열을 만들지 않도록, 구간의 해시를 String.hashCode와 같은 방식으로 계산하고 regionMatches로 비교한다.
+ */
+class ProductNameIndex {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final String[] names;
+    private final ProductStock[] productStocks;
+    private final int mask;
+
+    private ProductNameIndex(final String[] names, final ProductStock[] productStocks) {
+        this.names = names;
+        this.productStocks = productStocks;
+        this.mask = names.length - 1;
+    }
+
+    // 빈 칸이 충분하도록 상품 수의 두 배 이상인 2의 거듭제곱 크기로 만든다.
+    static ProductNameIndex of(final List<ProductStock> productStocks) {
+        int capacity = Integer.highestOneBit(Math.max(1, productStocks.size()) * 2 - 1) << 1;
+        ProductNameIndex index = new ProductNameIndex(new String[capacity], new ProductStock[capacity]);
+        for (ProductStock productStock : productStocks) {
+            index.put(productStock);
+        }
+        return index;
+    }
+
+    private void put(final ProductStock productStock) {
+        String name = productStock.getProductName();
+        int slot = spread(name.hashCode()) & mask;
+        while (names[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        names[slot] = name;
+        productStocks[slot] = productStock;
+    }
+
+    // text의 [start, end) 구간과 이름이 같은 재고. 없으면 null
+    ProductStock find(final String text, final int start, final int end) {
+        int length = end - start;
+        int slot = spread(hash(text, start, end)) & mask;
+        String name;
+        while ((name = names[slot]) != null) {
+            if (name.length() == length && name.regionMatches(0, text, start, length)) {
+                return productStocks[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(final String text, final int start, final int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = HASH_MULTIPLIER * hash + text.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -3,21 +3,39 @@ package store.domain.product.stock;
 import static store.domain.product.stock.StockStatus.EMPTY;
 import static store.domain.product.stock.StockStatus.NOT_EXIST;
 
+import java.util.concurrent.locks.ReentrantLock;
 import store.domain.product.Product;
 import store.domain.promotion.Promotion;
 import store.exception.CustomIllegalArgumentException;
 import store.exception.ErrorMessage;
+import store.metrics.StockChangedEvent;
 
 public class ProductStock {
 
+    private static final int UNASSIGNED_ID = -1;
+
     private final Product product;
-    private int promotionQuantity;
-    private int regularQuantity;
+    // 상품별 락 : 같은 상품의 재고 확인과 차감을 하나의 단위로 묶는다.
+    private final ReentrantLock lock;
+    private volatile StockChangeListener listener;
+    // 수량은 인벤토리의 StockColumns 한 행에 있다. 등록 전에는 한 행짜리 묶음을 사용한다.
+    // 응답을 기다리는 동안 잡아 둔 수량도 같은 행에 두며, 판매가 아니므로 변경 알림(기록)을 보내지 않는다.
+    private StockColumns.Chunk chunk;
+    private int slot;
+    // 인벤토리에 등록된 순서로 부여되는 번호 (StockColumns의 행 위치)
+    private int id;
+    // 수량이나 프로모션이 바뀔 때마다 증가. 락 안에서만 증가시키며, 화면 캐시가 다시 그릴 행을 고를 때 사용한다.
+    private volatile int version;
 
     public ProductStock(final Product product) {
         this.product = product;
-        this.promotionQuantity = initializePromotionQuantity();
-        this.regularQuantity = initializeRegularQuantity();
+        this.lock = new ReentrantLock();
+        this.listener = StockChangeListener.NONE;
+        this.id = UNASSIGNED_ID;
+        this.chunk = new StockColumns.Chunk(1);
+        this.slot = 0;
+        setPromotionQuantity(initializePromotionQuantity());
+        setRegularQuantity(initializeRegularQuantity());
     }
 
     private int initializeRegularQuantity() {
@@ -29,6 +47,7 @@ public class ProductStock {
     }
 
     public boolean doesNotExistPromotionQuantity() {
+        int promotionQuantity = getPromotionQuantity();
         return promotionQuantity == NOT_EXIST.getValue() || promotionQuantity == 0;
     }
 
@@ -53,26 +72,179 @@ public class ProductStock {
     }
 
     private boolean isPromotionInitialValue() {
-        return promotionQuantity == NOT_EXIST.getValue();
+        return getPromotionQuantity() == NOT_EXIST.getValue();
     }
 
     public int getPromotionQuantity() {
-        return promotionQuantity;
+        return chunk.promotionQuantities.get(slot);
     }
 
     public int getRegularQuantity() {
-        return regularQuantity;
+        return chunk.regularQuantities.get(slot);
+    }
+
+    private void setPromotionQuantity(final int quantity) {
+        chunk.promotionQuantities.set(slot, quantity);
+    }
+
+    private void setRegularQuantity(final int quantity) {
+        chunk.regularQuantities.set(slot, quantity);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    private void markChanged() {
+        version++;
+    }
+
+    // 판매와 입고로 수량이 바뀐 경우. 락 안에서 호출한다.
+    private void changed(final int promotionDelta, final int regularDelta) {
+        markChanged();
+        listener.onChange(this, promotionDelta, regularDelta);
+        StockChangedEvent.emit(getProductName(), promotionDelta, regularDelta, getPromotionQuantity(),
+                getRegularQuantity());
+    }
+
+    /**
+     * 인벤토리의 수량 열로 옮긴다. 상품 등록 시 다른 스레드에 공개되기 전에만 호출한다.
+     */
+    void attach(final StockColumns columns, final int id) {
+        lock.lock();
+        try {
+            StockColumns.Chunk target = columns.chunkFor(id);
+            int targetSlot = StockColumns.slotOf(id);
+            target.promotionQuantities.set(targetSlot, getPromotionQuantity());
+            target.regularQuantities.set(targetSlot, getRegularQuantity());
+            target.heldPromotionQuantities[targetSlot] = chunk.heldPromotionQuantities[slot];
+            target.heldRegularQuantities[targetSlot] = chunk.heldRegularQuantities[slot];
+            this.chunk = target;
+            this.slot = targetSlot;
+            this.id = id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void setListener(final StockChangeListener listener) {
+        this.listener = listener;
+    }
+
+    // 기록된 변경량을 다시 적용 (복구용)
+    public void applyChange(final int promotionDelta, final int regularDelta) {
+        lock.lock();
+        try {
+            applyPromotionChange(promotionDelta);
+            applyRegularChange(regularDelta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyPromotionChange(final int promotionDelta) {
+        if (promotionDelta > 0) {
+            addPromotionQuantity(promotionDelta);
+        }
+        if (promotionDelta < 0) {
+            subtractPromotionQuantity(-promotionDelta);
+        }
+    }
+
+    private void applyRegularChange(final int regularDelta) {
+        if (regularDelta > 0) {
+            addRegularQuantity(regularDelta);
+        }
+        if (regularDelta < 0) {
+            subtractRegularQuantity(-regularDelta);
+        }
+    }
+
+    // 잡아 둔 수량은 다른 구매에서 보이지 않도록 재고에서 뺀다.
+    public void hold(final int promotionQuantity, final int regularQuantity) {
+        lock.lock();
+        try {
+            // 프로모션 재고가 없는 상품(NOT_EXIST)은 정가 재고만 잡는다.
+            if ((promotionQuantity > 0 && getPromotionQuantity() < promotionQuantity)
+                    || getRegularQuantity() < regularQuantity) {
+                throw outOfStock();
+            }
+            setPromotionQuantity(getPromotionQuantity() - promotionQuantity);
+            setRegularQuantity(getRegularQuantity() - regularQuantity);
+            chunk.heldPromotionQuantities[slot] += promotionQuantity;
+            chunk.heldRegularQuantities[slot] += regularQuantity;
+            markChanged();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void releaseHold(final int promotionQuantity, final int regularQuantity) {
+        lock.lock();
+        try {
+            setPromotionQuantity(getPromotionQuantity() + promotionQuantity);
+            setRegularQuantity(getRegularQuantity() + regularQuantity);
+            chunk.heldPromotionQuantities[slot] -= promotionQuantity;
+            chunk.heldRegularQuantities[slot] -= regularQuantity;
+            markChanged();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 잡아 둔 수량을 포함한 재고 (스냅샷 저장용)
+    public int getOwnedPromotionQuantity() {
+        lock.lock();
+        try {
+            return getPromotionQuantity() + chunk.heldPromotionQuantities[slot];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getOwnedRegularQuantity() {
+        lock.lock();
+        try {
+            return getRegularQuantity() + chunk.heldRegularQuantities[slot];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 재고 확인과 차감을 묶을 때 사용하며, 반드시 finally에서 unlock 한다.
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
     }
 
     public void addPromotionQuantity(final int quantity) {
-        if (isPromotionInitialValue()) {
-            promotionQuantity = 0;
+        lock.lock();
+        try {
+            if (isPromotionInitialValue()) {
+                setPromotionQuantity(0);
+            }
+            setPromotionQuantity(getPromotionQuantity() + quantity);
+            changed(quantity, 0);
+        } finally {
+            lock.unlock();
         }
-        promotionQuantity += quantity;
     }
 
     public void addRegularQuantity(final int quantity) {
-        this.regularQuantity += quantity;
+        lock.lock();
+        try {
+            setRegularQuantity(getRegularQuantity() + quantity);
+            changed(0, quantity);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void addQuantity(final Product product, final int quantity, final ProductStock productStock) {
@@ -84,16 +256,45 @@ public class ProductStock {
         productStock.addRegularQuantity(quantity);
     }
 
+    public void merge(final ProductStock other) {
+        lock.lock();
+        try {
+            if (!other.isPromotionInitialValue()) {
+                addPromotionQuantity(other.getPromotionQuantity());
+                setPromotion(other.getPromotion());
+            }
+            addRegularQuantity(other.getRegularQuantity());
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public void subtractRegularQuantity(int purchaseQuantity) {
-        if (regularQuantity >= purchaseQuantity) {
-            regularQuantity -= purchaseQuantity;
-            return;
+        lock.lock();
+        try {
+            if (getRegularQuantity() >= purchaseQuantity) {
+                setRegularQuantity(getRegularQuantity() - purchaseQuantity);
+                changed(0, -purchaseQuantity);
+                return;
+            }
+            throw outOfStock();
+        } finally {
+            lock.unlock();
         }
-        throw new CustomIllegalArgumentException(ErrorMessage.OUT_OF_STOCK);
+    }
+
+    private CustomIllegalArgumentException outOfStock() {
+        return new CustomIllegalArgumentException(ErrorMessage.OUT_OF_STOCK);
     }
 
     private void setPromotion(final Promotion promotion) {
-        product.setPromotion(promotion);
+        lock.lock();
+        try {
+            product.setPromotion(promotion);
+            markChanged();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public Product getProduct() {
@@ -101,22 +302,28 @@ public class ProductStock {
     }
 
     public void checkTotalStock(final int purchaseQuantity) {
-        int totalQuantity = purchaseQuantity + regularQuantity;
+        int totalQuantity = purchaseQuantity + getRegularQuantity();
         if (totalQuantity < purchaseQuantity) {
-            throw new CustomIllegalArgumentException(ErrorMessage.OUT_OF_STOCK);
+            throw outOfStock();
         }
     }
 
     public boolean cannotPurchaseWithinPromotion(final int purchaseQuantity) {
-        return promotionQuantity < purchaseQuantity;
+        return getPromotionQuantity() < purchaseQuantity;
     }
 
     public void subtractPromotionQuantity(final int purchaseQuantity) {
-        if (promotionQuantity >= purchaseQuantity) {
-            promotionQuantity -= purchaseQuantity;
-            return;
+        lock.lock();
+        try {
+            if (getPromotionQuantity() >= purchaseQuantity) {
+                setPromotionQuantity(getPromotionQuantity() - purchaseQuantity);
+                changed(-purchaseQuantity, 0);
+                return;
+            }
+            throw outOfStock();
+        } finally {
+            lock.unlock();
         }
-        throw new CustomIllegalArgumentException(ErrorMessage.OUT_OF_STOCK);
     }
 }
 
@@ -11,13 +11,6 @@ public enum QuantityEnum {
         this.name = name;
     }
 
-    public static String findByStock(int number) {
-        if (number == 0) {
-            return OUT_OF_STOCK.name;
-        }
-        return String.format(QUANTITY.name, number);
-    }
-
     public String getName() {
         return name;
     }
@@ -0,0 +1,5 @@
+package store.domain.product.stock;
+
+// 재고 한 건의 변경량. 차감은 음수이다.
+public record StockChange(ProductStock productStock, int promotionDelta, int regularDelta) {
+}
@@ -0,0 +1,21 @@
+package store.domain.product.stock;
+
+// 재고 수량이 바뀔 때 변경량(차감은 음수)을 전달받는다. 상품별 락을 잡은 상태에서 호출되므로 오래 걸리는 작업을 하면 안 된다.
+@FunctionalInterface
+public interface StockChangeListener {
+
+    StockChangeListener NONE = (productStock, promotionDelta, regularDelta) -> {
+    };
+
+    void onChange(ProductStock productStock, int promotionDelta, int regularDelta);
+
+    default StockChangeListener andThen(final StockChangeListener next) {
+        if (this == NONE) {
+            return next;
+        }
+        return (productStock, promotionDelta, regularDelta) -> {
+            onChange(productStock, promotionDelta, regularDelta);
+            next.onChange(productStock, promotionDelta, regularDelta);
+        };
+    }
+}
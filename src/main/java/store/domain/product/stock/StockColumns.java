@@ -0,0 +1,63 @@
+package store.domain.product.stock;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 상품 번호로 색인하는 재고 수량 열. 인벤토리의 모든 수량은 여기에만 있으며 ProductStock 은 자기 행을 읽고 쓴다.
+ * CHUNK_SIZE 행씩 묶음을 추가하여 늘리므로, 이미 만들어진 묶음은 옮겨지지 않고 그 행을 가리키는 재고도 그대로 유효하다.
+ */
+final class StockColumns {
+
+    static final int CHUNK_BITS = 10;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Chunk[] chunks = new Chunk[0];
+
+    // 번호가 들어갈 묶음. 상품 등록 시에만 호출된다.
+    synchronized Chunk chunkFor(final int id) {
+        int chunkIndex = id >>> CHUNK_BITS;
+        Chunk[] current = chunks;
+        if (chunkIndex < current.length) {
+            return current[chunkIndex];
+        }
+        Chunk[] grown = Arrays.copyOf(current, chunkIndex + 1);
+        for (int i = current.length; i < grown.length; i++) {
+            grown[i] = new Chunk(CHUNK_SIZE);
+        }
+        chunks = grown;
+        return grown[chunkIndex];
+    }
+
+    static int slotOf(final int id) {
+        return id & CHUNK_MASK;
+    }
+
+    int promotionQuantity(final int id) {
+        return chunks[id >>> CHUNK_BITS].promotionQuantities.get(slotOf(id));
+    }
+
+    int regularQuantity(final int id) {
+        return chunks[id >>> CHUNK_BITS].regularQuantities.get(slotOf(id));
+    }
+
+    /**
+     * 판매 가능한 수량과 잡아 둔 수량. 판매 가능한 수량은 락 없이 읽을 수 있도록 AtomicIntegerArray 에 두고,
+     * 잡아 둔 수량은 상품 락 안에서만 읽고 쓴다.
+     */
+    static final class Chunk {
+
+        final AtomicIntegerArray promotionQuantities;
+        final AtomicIntegerArray regularQuantities;
+        final int[] heldPromotionQuantities;
+        final int[] heldRegularQuantities;
+
+        Chunk(final int size) {
+            this.promotionQuantities = new AtomicIntegerArray(size);
+            this.regularQuantities = new AtomicIntegerArray(size);
+            this.heldPromotionQuantities = new int[size];
+            this.heldRegularQuantities = new int[size];
+        }
+    }
+}
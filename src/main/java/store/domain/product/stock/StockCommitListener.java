@@ -0,0 +1,10 @@
+package store.domain.product.stock;
+
+import java.util.List;
+
+// 거래가 확정될 때 거래 중 생긴 재고 변경을 한 번에 전달받는다. 되돌려진 거래는 전달되지 않는다.
+@FunctionalInterface
+public interface StockCommitListener {
+
+    void onCommit(List<StockChange> changes);
+}
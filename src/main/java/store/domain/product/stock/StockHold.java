@@ -0,0 +1,84 @@
+package store.domain.product.stock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import store.domain.promotion.PromotionResult;
+import store.util.TimerWheel.Timeout;
+
+/**
+ * 안내 질문에 대한 응답을 기다리는 동안 안내한 수량을 잡아 둔다.
+ * 응답을 받으면 잡아 둔 수량을 돌려놓고 같은 락 안에서 구매를 진행하므로, 그 사이 다른 계산대가 재고를 가져갈 수 없다.
+ * 응답이 오지 않으면 만료 시 수량을 돌려놓는다. 먼저 돌려놓으면 만료 예약을 취소하여 타이머 휠에 남지 않게 한다.
+ */
+public class StockHold {
+
+    private final ProductStock productStock;
+    private final PromotionResult promotionResult;
+    private final int promotionQuantity;
+    private final int regularQuantity;
+    private final AtomicBoolean released;
+    private volatile Timeout expiry;
+
+    private StockHold(final ProductStock productStock, final PromotionResult promotionResult,
+                      final int promotionQuantity, final int regularQuantity, final boolean released) {
+        this.productStock = productStock;
+        this.promotionResult = promotionResult;
+        this.promotionQuantity = promotionQuantity;
+        this.regularQuantity = regularQuantity;
+        this.released = new AtomicBoolean(released);
+    }
+
+    // 락을 잡은 상태에서 호출하여, 안내 수량을 계산한 시점과 잡는 시점 사이에 재고가 바뀌지 않도록 한다.
+    public static StockHold hold(final ProductStock productStock, final PromotionResult promotionResult,
+                                 final int promotionQuantity, final int regularQuantity) {
+        productStock.hold(promotionQuantity, regularQuantity);
+        return new StockHold(productStock, promotionResult, promotionQuantity, regularQuantity, false);
+    }
+
+    // 안내가 없어 잡아 둘 수량이 없는 경우
+    public static StockHold none(final ProductStock productStock, final PromotionResult promotionResult) {
+        return new StockHold(productStock, promotionResult, 0, 0, true);
+    }
+
+    // 이미 돌려놓았다면 예약을 바로 취소한다.
+    public void expireWith(final Timeout timeout) {
+        this.expiry = timeout;
+        if (released.get()) {
+            timeout.cancel();
+        }
+    }
+
+    public PromotionResult getPromotionResult() {
+        return promotionResult;
+    }
+
+    // 잡아 둔 수량을 돌려놓고 구매를 진행한다. 이미 만료되었다면 남은 재고로 구매를 시도한다.
+    public <T> T redeem(final Supplier<T> purchase) {
+        productStock.lock();
+        try {
+            release();
+            return purchase.get();
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    // 여러 번 호출해도 한 번만 돌려놓는다.
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            productStock.releaseHold(promotionQuantity, regularQuantity);
+            cancelExpiry();
+        }
+    }
+
+    private void cancelExpiry() {
+        Timeout timeout = expiry;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+}
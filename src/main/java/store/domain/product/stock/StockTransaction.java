@@ -0,0 +1,119 @@
+package store.domain.product.stock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 거래(여러 주문 줄)의 재고 변경을 묶는다. commit 하지 않고 닫으면 거래 중 생긴 변경을 반대로 적용하여 되돌린다.
+ * <p>
+ * 재고 목록을 받아 시작하면 상품 번호 순서로 락을 잡아 교착 없이 거래 전체를 원자적으로 처리한다.
+ * 목록 없이 시작하면 락을 잡지 않고 되돌리기 기록만 남긴다. (응답을 기다리는 동안 다른 계산대를 막지 않기 위함)
+ * <p>
+ * 판매 기록처럼 확정된 변경만 받아야 하는 쪽은 {@link #deferToCommit}으로 등록하여 commit 시 변경 목록을 한 번에 받는다.
+ */
+public class StockTransaction implements AutoCloseable {
+
+    private static final ThreadLocal<StockTransaction> CURRENT = new ThreadLocal<>();
+
+    private final List<ProductStock> lockedStocks;
+    private final List<StockChange> changes;
+    private final List<StockCommitListener> commitListeners;
+    private boolean committed;
+    private boolean rollingBack;
+
+    private StockTransaction(final List<ProductStock> lockedStocks) {
+        this.lockedStocks = lockedStocks;
+        this.changes = new ArrayList<>();
+        this.commitListeners = new ArrayList<>();
+    }
+
+    public static StockTransaction begin() {
+        return start(List.of());
+    }
+
+    public static StockTransaction begin(final List<ProductStock> productStocks) {
+        List<ProductStock> lockedStocks = new ArrayList<>(productStocks);
+        lockedStocks.sort(Comparator.comparingInt(ProductStock::getId));
+        int locked = 0;
+        try {
+            for (ProductStock productStock : lockedStocks) {
+                productStock.lock();
+                locked++;
+            }
+            return start(lockedStocks);
+        } catch (RuntimeException exception) {
+            unlock(lockedStocks, locked);
+            throw exception;
+        }
+    }
+
+    private static StockTransaction start(final List<ProductStock> lockedStocks) {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException();
+        }
+        StockTransaction transaction = new StockTransaction(lockedStocks);
+        CURRENT.set(transaction);
+        return transaction;
+    }
+
+    // 인벤토리에 등록된 재고의 변경 알림. 현재 스레드에서 진행 중인 거래가 있으면 기록한다.
+    static void record(final ProductStock productStock, final int promotionDelta, final int regularDelta) {
+        StockTransaction transaction = CURRENT.get();
+        if (transaction != null && !transaction.rollingBack) {
+            transaction.changes.add(new StockChange(productStock, promotionDelta, regularDelta));
+        }
+    }
+
+    /**
+     * 현재 스레드에 진행 중인 거래가 있으면 확정될 때 변경 목록을 받도록 등록하고 true 를 반환한다.
+     * 되돌리는 중에 생긴 반대 변경도 true 를 반환하여 버리게 한다. 거래가 없거나 이미 확정되었으면 false 이다.
+     */
+    public static boolean deferToCommit(final StockCommitListener stockCommitListener) {
+        StockTransaction transaction = CURRENT.get();
+        if (transaction == null || transaction.committed) {
+            return false;
+        }
+        if (!transaction.rollingBack && !transaction.commitListeners.contains(stockCommitListener)) {
+            transaction.commitListeners.add(stockCommitListener);
+        }
+        return true;
+    }
+
+    public void commit() {
+        committed = true;
+        List<StockChange> committedChanges = Collections.unmodifiableList(changes);
+        for (StockCommitListener stockCommitListener : commitListeners) {
+            stockCommitListener.onCommit(committedChanges);
+        }
+    }
+
+    // 되돌리는 동안에도 현재 거래로 남겨 두어, 반대 변경이 기록되거나 판매 기록으로 나가지 않게 한다.
+    @Override
+    public void close() {
+        try {
+            if (!committed) {
+                rollback();
+            }
+        } finally {
+            CURRENT.remove();
+            unlock(lockedStocks, lockedStocks.size());
+        }
+    }
+
+    private void rollback() {
+        rollingBack = true;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            StockChange change = changes.get(i);
+            change.productStock().applyChange(-change.promotionDelta(), -change.regularDelta());
+        }
+        changes.clear();
+    }
+
+    private static void unlock(final List<ProductStock> productStocks, final int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            productStocks.get(i).unlock();
+        }
+    }
+}
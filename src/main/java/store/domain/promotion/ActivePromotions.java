@@ -0,0 +1,28 @@
+package store.domain.promotion;
+
+import java.util.Set;
+import store.domain.product.Product;
+
+// 특정 날짜에 진행 중인 프로모션 목록
+public class ActivePromotions {
+
+    private final long epochDay;
+    private final Set<Promotion> promotions;
+
+    public ActivePromotions(final long epochDay, final Set<Promotion> promotions) {
+        this.epochDay = epochDay;
+        this.promotions = Set.copyOf(promotions);
+    }
+
+    public boolean isActive(final Product product) {
+        return product.hasPromotion() && promotions.contains(product.getPromotion());
+    }
+
+    public boolean isActive(final Promotion promotion) {
+        return promotions.contains(promotion);
+    }
+
+    public boolean isOn(final long epochDay) {
+        return this.epochDay == epochDay;
+    }
+}
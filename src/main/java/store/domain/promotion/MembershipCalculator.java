@@ -9,6 +9,16 @@ public class MembershipCalculator {
         return calculateMembershipPrice(productPrice * getRegularPriceQuantity(promotionResult));
     }
 
+    // 정가로 결제한 금액. 멤버십 할인은 이 금액에만 적용한다.
+    public long calculateRegularPriceAmount(final int productPrice, final PromotionResult promotionResult) {
+        return Math.multiplyExact((long) productPrice, getRegularPriceQuantity(promotionResult));
+    }
+
+    // 여러 상품의 정가 결제 금액을 합친 뒤 한도를 한 번만 적용
+    public long calculateTotal(final long regularPriceAmount) {
+        return Math.min(MAX_MEMBERSHIP_PRICE, Math.multiplyExact(regularPriceAmount, MEMBERSHIP_DISCOUNT_RATE) / 100);
+    }
+
     private int calculateMembershipPrice(final int price) {
         return Math.min(MAX_MEMBERSHIP_PRICE, price * MEMBERSHIP_DISCOUNT_RATE / 100);
     }
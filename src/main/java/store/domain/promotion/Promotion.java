@@ -48,6 +48,14 @@ public class Promotion {
         return (now.isBefore(endDate) || now.isEqual(endDate)) && (now.isAfter(startDate) || now.isEqual(startDate));
     }
 
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
     public int getUnitQuantity() {
         return buyQuantity + getQuantity;
     }
@@ -0,0 +1,46 @@
+package store.domain.promotion;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 프로모션 기간을 epoch day 구간으로 미리 변환하여, 날짜가 바뀔 때만 진행 중인 프로모션을 계산
+public class PromotionCalendar {
+
+    private final List<Promotion> promotions;
+    private final long[] startDays;
+    private final long[] endDays;
+    private volatile ActivePromotions today;
+
+    public PromotionCalendar(final List<Promotion> promotions) {
+        this.promotions = List.copyOf(promotions);
+        this.startDays = new long[promotions.size()];
+        this.endDays = new long[promotions.size()];
+        for (int i = 0; i < promotions.size(); i++) {
+            startDays[i] = promotions.get(i).getStartDate().toEpochDay();
+            endDays[i] = promotions.get(i).getEndDate().toEpochDay();
+        }
+    }
+
+    public ActivePromotions activeOn(final LocalDate date) {
+        long epochDay = date.toEpochDay();
+        ActivePromotions activePromotions = today;
+        if (activePromotions != null && activePromotions.isOn(epochDay)) {
+            return activePromotions;
+        }
+        activePromotions = new ActivePromotions(epochDay, findActivePromotions(epochDay));
+        today = activePromotions;
+        return activePromotions;
+    }
+
+    private Set<Promotion> findActivePromotions(final long epochDay) {
+        Set<Promotion> activePromotions = new HashSet<>();
+        for (int i = 0; i < startDays.length; i++) {
+            if (startDays[i] <= epochDay && epochDay <= endDays[i]) {
+                activePromotions.add(promotions.get(i));
+            }
+        }
+        return activePromotions;
+    }
+}
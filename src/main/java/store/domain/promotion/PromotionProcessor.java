@@ -3,82 +3,108 @@ package store.domain.promotion;
 import java.time.LocalDate;
 import store.domain.product.Product;
 import store.domain.product.stock.ProductStock;
+import store.exception.CustomIllegalArgumentException;
+import store.metrics.PromotionEvaluatedEvent;
 
-// 프로모션을 고려하여 상품의 재고 관리
+// 프로모션을 고려하여 상품의 재고 관리. 상태를 갖지 않으므로 모든 상품이 하나의 처리기를 함께 쓴다.
 public class PromotionProcessor {
 
-    private final ProductStock productStock;
-
-    public PromotionProcessor(final ProductStock productStock) {
-        this.productStock = productStock;
+    public PromotionResult processOrder(final ProductStock productStock, int purchaseQuantity, LocalDate now) {
+        return processOrder(productStock, purchaseQuantity, productStock.getProduct().hasValidPromotion(now));
+    }
+
+    // 프로모션 유효 여부를 미리 계산한 경우 날짜 비교 없이 처리
+    public PromotionResult processOrder(final ProductStock productStock, final int purchaseQuantity,
+                                        final boolean validPromotion) {
+        // 락 대기 시간까지 포함하여 기록
+        PromotionEvaluatedEvent event = new PromotionEvaluatedEvent();
+        event.begin();
+        productStock.lock();
+        PromotionResult promotionResult = null;
+        String outcome = PromotionEvaluatedEvent.FAILED;
+        try {
+            promotionResult = purchase(productStock, purchaseQuantity, validPromotion);
+            outcome = PromotionEvaluatedEvent.OK;
+            return promotionResult;
+        } catch (CustomIllegalArgumentException exception) {
+            outcome = exception.getErrorMessage().name();
+            throw exception;
+        } finally {
+            // 재고 부족으로 거절된 판단도 남긴다.
+            event.complete(productStock.getProductName(), validPromotion, purchaseQuantity, promotionResult, outcome);
+            productStock.unlock();
+        }
     }
 
-    public PromotionResult processOrder(int purchaseQuantity, LocalDate now) {
+    private PromotionResult purchase(final ProductStock productStock, final int purchaseQuantity,
+                                     final boolean validPromotion) {
         Product product = productStock.getProduct();
         // 유효한 프로모션이 존재하고, 프로모션 수량이 존재할 경우
-        if (hasValidPromotion(product, now) && !productStock.doesNotExistPromotionQuantity()) {
-            return purchasePromotion(product.getPromotion(), purchaseQuantity);
+        if (validPromotion && !productStock.doesNotExistPromotionQuantity()) {
+            return purchasePromotion(productStock, product.getPromotion(), purchaseQuantity);
         }
-        return purchaseRegular(purchaseQuantity);
+        return purchaseRegular(productStock, purchaseQuantity);
     }
 
-    private boolean hasValidPromotion(final Product product, LocalDate now) {
-        return product.hasValidPromotion(now);
-    }
-
-    private PromotionResult purchasePromotion(final Promotion promotion, final int purchaseQuantity) {
+    private PromotionResult purchasePromotion(final ProductStock productStock, final Promotion promotion,
+                                              final int purchaseQuantity) {
         // 재고 확인
-        validateStock(purchaseQuantity);
+        validateStock(productStock, purchaseQuantity);
         // 프로모션 재고로 모두 구매하지 못할 경우 프로모션 적용 + 정가 결제 수량을 안내
-        if (needRegularPricePayment(purchaseQuantity)) {
-            return processPartialPromotionPurchase(promotion, purchaseQuantity);
+        if (needRegularPricePayment(productStock, purchaseQuantity)) {
+            return processPartialPromotionPurchase(productStock, promotion, purchaseQuantity);
         }
-        return calculatePromotionBenefit(promotion, purchaseQuantity);
+        return calculatePromotionBenefit(productStock, promotion, purchaseQuantity);
     }
 
-    private PromotionResult calculatePromotionBenefit(final Promotion promotion, final int purchaseQuantity) {
-        int giftQuantity = calculateGiftQuantity(promotion, purchaseQuantity);
+    private PromotionResult calculatePromotionBenefit(final ProductStock productStock, final Promotion promotion,
+                                                      final int purchaseQuantity) {
+        int giftQuantity = calculateGiftQuantity(productStock, promotion, purchaseQuantity);
         // 프로모션 적용이 가능한 상품에 대해 해당 수량보다 적게 가져온 경우 추가 혜택 안내
-        if (checkAdditionalPromotionBenefit(promotion, purchaseQuantity)) {
+        if (checkAdditionalPromotionBenefit(productStock, promotion, purchaseQuantity)) {
             return PromotionResult.makePromotionPurchaseResult(purchaseQuantity, giftQuantity,
                     promotion.getGetQuantity()
             );
         }
         // 할인 적용
-        return purchaseWithPromotion(purchaseQuantity, giftQuantity);
+        return purchaseWithPromotion(productStock, purchaseQuantity, giftQuantity);
     }
 
-    private PromotionResult purchaseWithPromotion(final int purchaseQuantity, final int giftQuantity) {
+    private PromotionResult purchaseWithPromotion(final ProductStock productStock, final int purchaseQuantity,
+                                                  final int giftQuantity) {
         productStock.subtractPromotionQuantity(purchaseQuantity);
         return PromotionResult.makePromotionPurchaseResult(purchaseQuantity, giftQuantity, 0);
     }
 
-    private boolean checkAdditionalPromotionBenefit(final Promotion promotion, final int purchaseQuantity) {
+    private boolean checkAdditionalPromotionBenefit(final ProductStock productStock, final Promotion promotion,
+                                                    final int purchaseQuantity) {
         // 추가 혜택 안내시 구매 후 남은 재고 수량이 getQuantity 이상이어야한다.
         boolean isBenefitQuantity = (purchaseQuantity % promotion.getUnitQuantity()) == promotion.getBuyQuantity();
         boolean isAvailable = productStock.getPromotionQuantity() - purchaseQuantity >= promotion.getGetQuantity();
         return isBenefitQuantity && isAvailable;
     }
 
-    private PromotionResult processPartialPromotionPurchase(final Promotion promotion, final int purchaseQuantity) {
+    private PromotionResult processPartialPromotionPurchase(final ProductStock productStock, final Promotion promotion,
+                                                            final int purchaseQuantity) {
         int promotionQuantity = productStock.getPromotionQuantity();
         int unitQuantity = promotion.getUnitQuantity();
         int regularPriceQuantity = calculateRegularPriceQuantity(purchaseQuantity, promotionQuantity, unitQuantity);
-        int giftQuantity = calculateGiftQuantity(promotion, purchaseQuantity);
+        int giftQuantity = calculateGiftQuantity(productStock, promotion, purchaseQuantity);
         return PromotionResult.makeMixedPurchaseResult(purchaseQuantity, giftQuantity, regularPriceQuantity, 0);
     }
 
-    private int calculateGiftQuantity(final Promotion promotion, final int purchaseQuantity) {
+    private int calculateGiftQuantity(final ProductStock productStock, final Promotion promotion,
+                                      final int purchaseQuantity) {
         // 프로모션 재고 내에서 증정 수량을 계산
         int quantity = Math.min(purchaseQuantity, productStock.getPromotionQuantity());
         return quantity / promotion.getUnitQuantity() * promotion.getGetQuantity();
     }
 
-    private boolean needRegularPricePayment(final int purchaseQuantity) {
+    private boolean needRegularPricePayment(final ProductStock productStock, final int purchaseQuantity) {
         return productStock.cannotPurchaseWithinPromotion(purchaseQuantity);
     }
 
-    private void validateStock(final int purchaseQuantity) {
+    private void validateStock(final ProductStock productStock, final int purchaseQuantity) {
         productStock.checkTotalStock(purchaseQuantity);
     }
 
@@ -86,20 +112,43 @@ public class PromotionProcessor {
         return purchaseQuantity - (promotionQuantity / unitQuantity * unitQuantity);
     }
 
-    private PromotionResult purchaseRegular(final int purchaseQuantity) {
+    private PromotionResult purchaseRegular(final ProductStock productStock, final int purchaseQuantity) {
         productStock.subtractRegularQuantity(purchaseQuantity);
         return PromotionResult.makeRegularPurchaseResult(purchaseQuantity);
     }
 
-    public PromotionResult processWithRegularPayment(final PromotionResult promotionResult) {
+    public PromotionResult processWithRegularPayment(final ProductStock productStock,
+                                                     final PromotionResult promotionResult) {
+        productStock.lock();
+        try {
+            return purchaseWithRegularPayment(productStock, promotionResult);
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    private PromotionResult purchaseWithRegularPayment(final ProductStock productStock,
+                                                       final PromotionResult promotionResult) {
         int purchaseQuantity = promotionResult.totalQuantity();
         int promotionQuantity = productStock.getPromotionQuantity();
-        productStock.subtractPromotionQuantity(promotionQuantity);
+        // 정가 재고가 부족하면 프로모션 재고도 차감하지 않도록 정가 재고를 먼저 차감
         productStock.subtractRegularQuantity(purchaseQuantity - promotionQuantity);
+        productStock.subtractPromotionQuantity(promotionQuantity);
         return promotionResult;
     }
 
-    public PromotionResult processOnlyPromotionPayment(final PromotionResult promotionResult) {
+    public PromotionResult processOnlyPromotionPayment(final ProductStock productStock,
+                                                       final PromotionResult promotionResult) {
+        productStock.lock();
+        try {
+            return purchaseOnlyPromotion(productStock, promotionResult);
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    private PromotionResult purchaseOnlyPromotion(final ProductStock productStock,
+                                                  final PromotionResult promotionResult) {
         int totalQuantity = promotionResult.totalQuantity();
         int regularPriceQuantity = promotionResult.regularPriceQuantity();
         int purchaseQuantity = totalQuantity - regularPriceQuantity;
@@ -108,7 +157,18 @@ public class PromotionProcessor {
                 promotionResult.giftQuantity(), 0);
     }
 
-    public PromotionResult processBenefitOption(final PromotionResult promotionResult) {
+    public PromotionResult processBenefitOption(final ProductStock productStock,
+                                                final PromotionResult promotionResult) {
+        productStock.lock();
+        try {
+            return purchaseWithBenefit(productStock, promotionResult);
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    private PromotionResult purchaseWithBenefit(final ProductStock productStock,
+                                                final PromotionResult promotionResult) {
         int totalQuantity = promotionResult.totalQuantity();
         int additionalBenefitQuantity = promotionResult.additionalBenefitQuantity();
         int purchaseQuantity = totalQuantity + additionalBenefitQuantity;
@@ -117,7 +177,18 @@ public class PromotionProcessor {
         return PromotionResult.makePromotionPurchaseResult(purchaseQuantity, totalGiftQuantity, 0);
     }
 
-    public PromotionResult processNoBenefitOption(final PromotionResult promotionResult) {
+    public PromotionResult processNoBenefitOption(final ProductStock productStock,
+                                                  final PromotionResult promotionResult) {
+        productStock.lock();
+        try {
+            return purchaseWithoutBenefit(productStock, promotionResult);
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    private PromotionResult purchaseWithoutBenefit(final ProductStock productStock,
+                                                   final PromotionResult promotionResult) {
         int totalQuantity = promotionResult.totalQuantity();
         productStock.subtractPromotionQuantity(totalQuantity);
         return PromotionResult.makePromotionPurchaseResult(totalQuantity, promotionResult.giftQuantity(), 0);
@@ -0,0 +1,39 @@
+package store.domain.promotion;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 프로모션 이름으로 프로모션을 찾는 색인
+public class PromotionRegistry {
+
+    private final Map<String, Promotion> promotions;
+    private final List<Promotion> orderedPromotions;
+
+    private PromotionRegistry(final Map<String, Promotion> promotions, final List<Promotion> orderedPromotions) {
+        this.promotions = promotions;
+        this.orderedPromotions = orderedPromotions;
+    }
+
+    // 같은 이름이 여러 번 있으면 먼저 등록된 프로모션을 사용
+    public static PromotionRegistry from(final List<Promotion> promotions) {
+        Map<String, Promotion> registry = new HashMap<>(promotions.size() * 2);
+        List<Promotion> orderedPromotions = new ArrayList<>(promotions.size());
+        for (Promotion promotion : promotions) {
+            if (registry.putIfAbsent(promotion.getName(), promotion) == null) {
+                orderedPromotions.add(promotion);
+            }
+        }
+        return new PromotionRegistry(registry, List.copyOf(orderedPromotions));
+    }
+
+    // 존재하지 않는 이름(예: null)은 프로모션이 없는 상품으로 취급
+    public Promotion find(final String name) {
+        return promotions.get(name);
+    }
+
+    public List<Promotion> getPromotions() {
+        return orderedPromotions;
+    }
+}
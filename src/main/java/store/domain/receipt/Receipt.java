@@ -9,45 +9,31 @@ public class Receipt {
 
     private final List<PurchaseResult> purchaseResults;
     private final List<GiftResult> giftResults;
-    private final int totalPurchaseAmount;
-    private final int totalGiftDiscountAmount;
-    private final int totalMembershipDiscountAmount;
-    private final int totalPayAmount;
-
-    public Receipt(final List<PurchaseResult> purchaseResults, final List<GiftResult> giftResults,
-                   final int totalMembershipDiscountAmount) {
+    private final long totalPurchaseQuantity;
+    private final long totalPurchaseAmount;
+    private final long totalGiftDiscountAmount;
+    private final long totalMembershipDiscountAmount;
+    private final long totalPayAmount;
+
+    // 합계는 ReceiptBuilder 가 주문 결과를 더하면서 누적한 값이다.
+    Receipt(final List<PurchaseResult> purchaseResults, final List<GiftResult> giftResults,
+            final long totalPurchaseQuantity, final long totalPurchaseAmount, final long totalGiftDiscountAmount,
+            final long totalMembershipDiscountAmount, final long totalPayAmount) {
         this.purchaseResults = purchaseResults;
         this.giftResults = giftResults;
-        this.totalPurchaseAmount = calculateTotalPurchaseAmount(purchaseResults);
-        this.totalGiftDiscountAmount = calculateTotalGiftDiscountAmount(giftResults);
+        this.totalPurchaseQuantity = totalPurchaseQuantity;
+        this.totalPurchaseAmount = totalPurchaseAmount;
+        this.totalGiftDiscountAmount = totalGiftDiscountAmount;
         this.totalMembershipDiscountAmount = totalMembershipDiscountAmount;
-        this.totalPayAmount = totalPurchaseAmount - totalGiftDiscountAmount - totalMembershipDiscountAmount;
+        this.totalPayAmount = totalPayAmount;
     }
 
     public static Receipt from(final List<OrderResult> orderResults) {
-        List<PurchaseResult> purchaseResults = makePurchaseResults(orderResults);
-        List<GiftResult> giftResults = makeGiftResults(orderResults);
-        int totalMembershipDiscountAmount = addMembershipDiscountAmount(orderResults);
-        return new Receipt(purchaseResults, giftResults, totalMembershipDiscountAmount);
-    }
-
-    private static List<PurchaseResult> makePurchaseResults(final List<OrderResult> orderResults) {
-        return orderResults.stream()
-                .map(OrderResult::purchaseResult)
-                .toList();
-    }
-
-    private static List<GiftResult> makeGiftResults(final List<OrderResult> orderResults) {
-        return orderResults.stream()
-                .map(OrderResult::giftResult)
-                .filter(result -> result.quantity > 0)
-                .toList();
-    }
-
-    private static int addMembershipDiscountAmount(final List<OrderResult> orderResults) {
-        return orderResults.stream()
-                .mapToInt(OrderResult::membershipDiscountAmount)
-                .sum();
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder(orderResults.size());
+        for (OrderResult orderResult : orderResults) {
+            receiptBuilder.add(orderResult);
+        }
+        return receiptBuilder.build();
     }
 
     public record PurchaseResult(String productName, int quantity, int price) {
@@ -62,18 +48,6 @@ public class Receipt {
         }
     }
 
-    private int calculateTotalPurchaseAmount(final List<PurchaseResult> purchaseResults) {
-        return purchaseResults.stream()
-                .mapToInt(result -> result.price * result.quantity)
-                .sum();
-    }
-
-    private int calculateTotalGiftDiscountAmount(final List<GiftResult> giftResults) {
-        return giftResults.stream()
-                .mapToInt(result -> result.price * result.quantity)
-                .sum();
-    }
-
     public List<PurchaseResult> getPurchaseResults() {
         return purchaseResults;
     }
@@ -82,25 +56,23 @@ public class Receipt {
         return giftResults;
     }
 
-    public int getTotalPurchaseQuantity() {
-        return purchaseResults.stream()
-                .mapToInt(PurchaseResult::quantity)
-                .sum();
+    public long getTotalPurchaseQuantity() {
+        return totalPurchaseQuantity;
     }
 
-    public int getTotalPurchaseAmount() {
+    public long getTotalPurchaseAmount() {
         return totalPurchaseAmount;
     }
 
-    public int getTotalGiftDiscountAmount() {
+    public long getTotalGiftDiscountAmount() {
         return totalGiftDiscountAmount;
     }
 
-    public int getTotalMembershipDiscountAmount() {
+    public long getTotalMembershipDiscountAmount() {
         return totalMembershipDiscountAmount;
     }
 
-    public int getTotalPayAmount() {
+    public long getTotalPayAmount() {
         return totalPayAmount;
     }
 }
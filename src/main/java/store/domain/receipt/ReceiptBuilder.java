@@ -0,0 +1,72 @@
+package store.domain.receipt;
+
+import java.util.ArrayList;
+import java.util.List;
+import store.domain.order.OrderResult;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+/**
+ * 주문 결과를 하나씩 더하면서 합계를 함께 누적한다. 완성된 영수증은 합계를 다시 계산하지 않는다.
+ * 도매 주문처럼 큰 장바구니에서 int 합계가 넘치지 않도록 long 으로 더하며, long 도 넘치면 ArithmeticException 이 발생한다.
+ */
+public class ReceiptBuilder {
+
+    private final List<PurchaseResult> purchaseResults;
+    private final List<GiftResult> giftResults;
+    private long totalPurchaseQuantity;
+    private long totalPurchaseAmount;
+    private long totalGiftDiscountAmount;
+    private long totalMembershipDiscountAmount;
+
+    public ReceiptBuilder() {
+        this(0);
+    }
+
+    // 주문 줄 수를 알면 목록을 한 번에 할당한다.
+    public ReceiptBuilder(final int expectedLines) {
+        this.purchaseResults = new ArrayList<>(expectedLines);
+        this.giftResults = new ArrayList<>();
+    }
+
+    public ReceiptBuilder add(final OrderResult orderResult) {
+        addPurchase(orderResult.purchaseResult());
+        addGift(orderResult.giftResult());
+        return addMembershipDiscount(orderResult.membershipDiscountAmount());
+    }
+
+    public ReceiptBuilder addPurchase(final PurchaseResult purchaseResult) {
+        purchaseResults.add(purchaseResult);
+        totalPurchaseQuantity = Math.addExact(totalPurchaseQuantity, purchaseResult.quantity());
+        totalPurchaseAmount = Math.addExact(totalPurchaseAmount,
+                amountOf(purchaseResult.price(), purchaseResult.quantity()));
+        return this;
+    }
+
+    // 증정 수량이 없는 줄은 영수증에 싣지 않는다.
+    public ReceiptBuilder addGift(final GiftResult giftResult) {
+        if (giftResult.quantity() <= 0) {
+            return this;
+        }
+        giftResults.add(giftResult);
+        totalGiftDiscountAmount = Math.addExact(totalGiftDiscountAmount,
+                amountOf(giftResult.price(), giftResult.quantity()));
+        return this;
+    }
+
+    public ReceiptBuilder addMembershipDiscount(final long membershipDiscountAmount) {
+        totalMembershipDiscountAmount = Math.addExact(totalMembershipDiscountAmount, membershipDiscountAmount);
+        return this;
+    }
+
+    public Receipt build() {
+        long totalPayAmount = Math.subtractExact(
+                Math.subtractExact(totalPurchaseAmount, totalGiftDiscountAmount), totalMembershipDiscountAmount);
+        return new Receipt(List.copyOf(purchaseResults), List.copyOf(giftResults), totalPurchaseQuantity,
+                totalPurchaseAmount, totalGiftDiscountAmount, totalMembershipDiscountAmount, totalPayAmount);
+    }
+
+    private static long amountOf(final int price, final int quantity) {
+        return Math.multiplyExact((long) price, quantity);
+    }
+}
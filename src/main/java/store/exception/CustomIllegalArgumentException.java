@@ -2,7 +2,14 @@ package store.exception;
 
 public class CustomIllegalArgumentException extends IllegalArgumentException {
 
+    private final ErrorMessage errorMessage;
+
     public CustomIllegalArgumentException(final ErrorMessage message) {
         super(ErrorPrefix.format(message.getMessage()));
+        this.errorMessage = message;
+    }
+
+    public ErrorMessage getErrorMessage() {
+        return errorMessage;
     }
 }
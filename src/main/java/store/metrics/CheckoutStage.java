@@ -0,0 +1,29 @@
+package store.metrics;
+
+// 지연 시간을 기록하는 계산 단계
+// 시각을 읽는 비용이 단계 자체와 비슷한 짧은 단계는 일부 호출만 표본으로 잰다. (표본 간격은 2의 거듭제곱)
+public enum CheckoutStage {
+
+    PROCESS_ORDER("process_order", 64),
+    REGULAR_PAYMENT_PROMPT("regular_payment_prompt", 1),
+    BENEFIT_PROMPT("benefit_prompt", 1),
+    MEMBERSHIP_PROMPT("membership_prompt", 1),
+    RECEIPT_BUILD("receipt_build", 64),
+    RECEIPT_RENDER("receipt_render", 16);
+
+    private final String label;
+    private final int sampleMask;
+
+    CheckoutStage(final String label, final int sampleInterval) {
+        this.label = label;
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    boolean isSampled(final int random) {
+        return (random & sampleMask) == 0;
+    }
+}
@@ -0,0 +1,78 @@
+package store.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표를 주기적으로 파일에 쓴다. 임시 파일에 쓴 뒤 옮기므로 읽는 쪽은 항상 완전한 파일을 본다.
+ * 닫을 때 마지막 값을 한 번 더 쓴다.
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final CheckoutMetrics checkoutMetrics;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    private MetricsReporter(final CheckoutMetrics checkoutMetrics, final Path file) {
+        this.checkoutMetrics = checkoutMetrics;
+        this.file = file;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static MetricsReporter start(final CheckoutMetrics checkoutMetrics, final Path file,
+                                        final Duration interval) {
+        MetricsReporter metricsReporter = new MetricsReporter(checkoutMetrics, file);
+        long intervalMillis = interval.toMillis();
+        metricsReporter.scheduler.scheduleAtFixedRate(metricsReporter::reportQuietly, intervalMillis,
+                intervalMillis, TimeUnit.MILLISECONDS);
+        return metricsReporter;
+    }
+
+    public void report() {
+        StringBuilder builder = new StringBuilder();
+        checkoutMetrics.writeTo(builder);
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            Files.writeString(temporary, builder, StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // 주기 작업이 예외로 멈추지 않도록 한 번의 실패는 다음 주기에 다시 쓴다.
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (UncheckedIOException exception) {
+            // 다음 주기에 다시 시도
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            // 진행 중인 주기 작업과 같은 임시 파일에 쓰지 않도록 끝나기를 기다린다.
+            scheduler.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        report();
+    }
+}
@@ -0,0 +1,44 @@
+package store.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.domain.promotion.PromotionResult;
+
+/**
+ * 주문 한 건을 처리한 구간. 안내 질문에 응답하기 전, 주문 시점의 결과를 담는다.
+ * 녹화 중이 아니면 commit 하지 않으며, 이벤트 객체는 JIT 가 할당을 없앤다.
+ */
+@Name("store.OrderProcessed")
+@Label("Order Processed")
+@Category({"Store", "Checkout"})
+@Description("주문 한 건의 프로모션 적용 결과와 처리 시간")
+@StackTrace(false)
+public class OrderProcessedEvent extends Event {
+
+    @Label("Product")
+    String productName;
+
+    @Label("Quantity")
+    int quantity;
+
+    @Label("Purchase Type")
+    String purchaseType;
+
+    @Label("Gift Quantity")
+    int giftQuantity;
+
+    public void complete(final String productName, final int quantity, final PromotionResult promotionResult) {
+        end();
+        if (shouldCommit()) {
+            this.productName = productName;
+            this.quantity = quantity;
+            this.purchaseType = promotionResult.purchaseType().name();
+            this.giftQuantity = promotionResult.giftQuantity();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package store.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.domain.promotion.PromotionResult;
+
+/**
+ * 재고 락을 기다리는 시간부터 프로모션 판단과 차감까지의 구간. 락 대기 이벤트와 겹쳐 보면 어느 상품에서 막혔는지 알 수 있다.
+ * 재고 부족 등으로 거절된 판단도 남기며, 이때 결과는 오류 이름(OUT_OF_STOCK 등)이고 구매 유형과 수량은 비어 있다.
+ */
+@Name("store.PromotionEvaluated")
+@Label("Promotion Evaluated")
+@Category({"Store", "Promotion"})
+@Description("상품 하나에 대한 프로모션 판단 결과")
+@StackTrace(false)
+public class PromotionEvaluatedEvent extends Event {
+
+    public static final String OK = "OK";
+    public static final String FAILED = "FAILED";
+
+    @Label("Product")
+    String productName;
+
+    @Label("Promotion Active")
+    boolean promotionActive;
+
+    @Label("Purchase Quantity")
+    int purchaseQuantity;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Purchase Type")
+    String purchaseType;
+
+    @Label("Gift Quantity")
+    int giftQuantity;
+
+    @Label("Regular Price Quantity")
+    int regularPriceQuantity;
+
+    @Label("Additional Benefit Quantity")
+    int additionalBenefitQuantity;
+
+    // 거절되었으면 promotionResult 는 null 이다.
+    public void complete(final String productName, final boolean promotionActive, final int purchaseQuantity,
+                         final PromotionResult promotionResult, final String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.productName = productName;
+            this.promotionActive = promotionActive;
+            this.purchaseQuantity = purchaseQuantity;
+            this.outcome = outcome;
+            if (promotionResult != null) {
+                record(promotionResult);
+            }
+            commit();
+        }
+    }
+
+    private void record(final PromotionResult promotionResult) {
+        this.purchaseType = promotionResult.purchaseType().name();
+        this.giftQuantity = promotionResult.giftQuantity();
+        this.regularPriceQuantity = promotionResult.regularPriceQuantity();
+        this.additionalBenefitQuantity = promotionResult.additionalBenefitQuantity();
+    }
+}
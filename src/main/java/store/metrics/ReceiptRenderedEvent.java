@@ -0,0 +1,40 @@
+package store.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("store.ReceiptRendered")
+@Label("Receipt Rendered")
+@Category({"Store", "Checkout"})
+@Description("영수증 한 장을 그린 구간")
+@StackTrace(false)
+public class ReceiptRenderedEvent extends Event {
+
+    @Label("Purchase Lines")
+    int purchaseLines;
+
+    @Label("Gift Lines")
+    int giftLines;
+
+    @Label("Pay Amount")
+    long payAmount;
+
+    @Label("Characters")
+    long characters;
+
+    public void complete(final int purchaseLines, final int giftLines, final long payAmount,
+                         final long characters) {
+        end();
+        if (shouldCommit()) {
+            this.purchaseLines = purchaseLines;
+            this.giftLines = giftLines;
+            this.payAmount = payAmount;
+            this.characters = characters;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package store.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 재고 수량이 바뀐 시점. 되돌림(거래 실패)과 복구(기록 재적용)도 같은 이벤트로 남는다.
+ */
+@Name("store.StockChanged")
+@Label("Stock Changed")
+@Category({"Store", "Stock"})
+@Description("재고 추가 또는 차감으로 바뀐 수량과 바뀐 뒤의 수량")
+@StackTrace(false)
+public class StockChangedEvent extends Event {
+
+    @Label("Product")
+    String productName;
+
+    @Label("Promotion Delta")
+    int promotionDelta;
+
+    @Label("Regular Delta")
+    int regularDelta;
+
+    @Label("Promotion Quantity")
+    int promotionQuantity;
+
+    @Label("Regular Quantity")
+    int regularQuantity;
+
+    // 녹화 중이 아니면 값을 채우지 않는다.
+    public static void emit(final String productName, final int promotionDelta, final int regularDelta,
+                            final int promotionQuantity, final int regularQuantity) {
+        StockChangedEvent event = new StockChangedEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.productName = productName;
+        event.promotionDelta = promotionDelta;
+        event.regularDelta = regularDelta;
+        event.promotionQuantity = promotionQuantity;
+        event.regularQuantity = regularQuantity;
+        event.commit();
+    }
+}
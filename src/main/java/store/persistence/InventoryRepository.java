@@ -0,0 +1,93 @@
+package store.persistence;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import store.config.StoreOptions;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionRegistry;
+import store.util.CatalogParser;
+
+/**
+ * 스냅샷과 판매 기록으로 재고를 복원하고, 판매가 확정될 때마다 기록을 디스크에 남긴다.
+ */
+public class InventoryRepository implements AutoCloseable {
+
+    private static final int CHECKPOINT_INTERVAL = 1_000;
+
+    private final StoreOptions storeOptions;
+    private final AtomicInteger commitCount = new AtomicInteger();
+    // 스냅샷 기록과 판매 기록 정리가 겹치지 않도록 한 번에 하나씩 한다.
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private InventorySnapshot catalog;
+    private StockJournal journal;
+
+    public InventoryRepository(final StoreOptions storeOptions) {
+        this.storeOptions = storeOptions;
+    }
+
+    // 스냅샷이 있으면 판매 후 남은 재고로 복원하고, 없으면 상품 파일을 읽는다. 이후 판매 기록을 다시 적용한다.
+    public InventorySnapshot load() {
+        catalog = readCatalog();
+        if (storeOptions.isJournalEnabled()) {
+            journal = StockJournal.open(storeOptions.journalFile());
+            journal.replay(catalog.getInventory(), catalog.getJournalSequence());
+            journal.attach(catalog.getInventory());
+        }
+        return catalog;
+    }
+
+    private InventorySnapshot readCatalog() {
+        if (storeOptions.isSnapshotEnabled() && InventorySnapshot.exists(storeOptions.snapshotFile())) {
+            return InventorySnapshot.read(storeOptions.snapshotFile());
+        }
+        // 프로모션 -> 인벤토리
+        PromotionRegistry promotionRegistry = CatalogParser.readPromotions();
+        return new InventorySnapshot(promotionRegistry, CatalogParser.readInventory(promotionRegistry));
+    }
+
+    // 주문 하나가 끝날 때 호출한다. 일정 횟수마다 스냅샷을 새로 쓰고 기록을 비운다.
+    public void commit() {
+        if (journal == null) {
+            return;
+        }
+        journal.commit();
+        // 이미 다른 계산대가 스냅샷을 쓰는 중이면 기다리지 않고 다음 주기로 넘긴다.
+        if (commitCount.incrementAndGet() % CHECKPOINT_INTERVAL == 0 && checkpointLock.tryLock()) {
+            try {
+                writeCheckpoint();
+            } finally {
+                checkpointLock.unlock();
+            }
+        }
+    }
+
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            writeCheckpoint();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    // 수량만 락 안에서 복사하고, 파일 기록과 fsync 는 락 밖에서 한다.
+    private void writeCheckpoint() {
+        if (!storeOptions.isSnapshotEnabled()) {
+            return;
+        }
+        if (journal == null) {
+            catalog.write(storeOptions.snapshotFile(), StockCheckpoint.copyOf(catalog.getInventory()));
+            return;
+        }
+        StockCheckpoint stockCheckpoint = journal.beginCheckpoint();
+        catalog.write(storeOptions.snapshotFile(), stockCheckpoint);
+        journal.discardThrough(stockCheckpoint);
+    }
+
+    @Override
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package store.persistence;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionRegistry;
+
+/**
+ * 프로모션 목록과 현재 재고 수량을 바이너리로 저장하고, 다음 실행 시 메모리 매핑으로 바로 복원한다.
+ * <pre>
+ * magic, version, 반영된 마지막 판매 기록 번호
+ * 프로모션 수, (이름, buy, get, 시작 epoch day, 종료 epoch day)...
+ * 상품 수, (이름, 가격, 프로모션 번호 또는 -1, 프로모션 재고, 일반 재고)...
+ * </pre>
+ */
+public class InventorySnapshot {
+
+    private static final int MAGIC = 0x494E5653;
+    private static final int VERSION = 2;
+    private static final int NO_PROMOTION = -1;
+
+    private final PromotionRegistry promotionRegistry;
+    private final Inventory inventory;
+    private final long journalSequence;
+
+    public InventorySnapshot(final PromotionRegistry promotionRegistry, final Inventory inventory) {
+        this(promotionRegistry, inventory, 0);
+    }
+
+    private InventorySnapshot(final PromotionRegistry promotionRegistry, final Inventory inventory,
+                              final long journalSequence) {
+        this.promotionRegistry = promotionRegistry;
+        this.inventory = inventory;
+        this.journalSequence = journalSequence;
+    }
+
+    public static boolean exists(final Path path) {
+        return Files.isRegularFile(path);
+    }
+
+    public void write(final Path path) {
+        write(path, StockCheckpoint.copyOf(inventory));
+    }
+
+    /**
+     * 복사해 둔 수량으로 쓰므로 재고 락을 잡지 않는다. 임시 파일에 기록하고 fsync 한 뒤 교체하여,
+     * 기록 도중 종료되어도 이전 스냅샷이 남도록 한다.
+     */
+    public void write(final Path path, final StockCheckpoint stockCheckpoint) {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel)));
+            Map<Promotion, Integer> promotionIndexes = writePromotions(output, stockCheckpoint);
+            writeProductStocks(output, promotionIndexes, stockCheckpoint);
+            output.flush();
+            channel.force(true);
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+        moveAtomically(temporary, path);
+    }
+
+    public static InventorySnapshot read(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            validateHeader(buffer);
+            long journalSequence = buffer.getLong();
+            List<Promotion> promotions = readPromotions(buffer);
+            Inventory inventory = readProductStocks(buffer, promotions);
+            return new InventorySnapshot(PromotionRegistry.from(promotions), inventory, journalSequence);
+        } catch (IOException | RuntimeException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    public PromotionRegistry getPromotionRegistry() {
+        return promotionRegistry;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    // 이 스냅샷에 반영된 마지막 판매 기록 번호. 상품 파일에서 읽었으면 0
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private Map<Promotion, Integer> writePromotions(final DataOutputStream output,
+                                                    final StockCheckpoint stockCheckpoint) throws IOException {
+        Map<Promotion, Integer> promotionIndexes = new LinkedHashMap<>();
+        promotionRegistry.getPromotions().forEach(promotion -> promotionIndexes.putIfAbsent(promotion,
+                promotionIndexes.size()));
+        List<ProductStock> productStocks = inventory.getProductStocks();
+        for (int i = 0; i < stockCheckpoint.size(); i++) {
+            Promotion promotion = productStocks.get(i).getPromotion();
+            if (promotion != null) {
+                promotionIndexes.putIfAbsent(promotion, promotionIndexes.size());
+            }
+        }
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(stockCheckpoint.journalSequence());
+        output.writeInt(promotionIndexes.size());
+        for (Promotion promotion : promotionIndexes.keySet()) {
+            writeString(output, promotion.getName());
+            output.writeInt(promotion.getBuyQuantity());
+            output.writeInt(promotion.getGetQuantity());
+            output.writeLong(promotion.getStartDate().toEpochDay());
+            output.writeLong(promotion.getEndDate().toEpochDay());
+        }
+        return promotionIndexes;
+    }
+
+    private void writeProductStocks(final DataOutputStream output, final Map<Promotion, Integer> promotionIndexes,
+                                    final StockCheckpoint stockCheckpoint) throws IOException {
+        List<ProductStock> productStocks = inventory.getProductStocks();
+        output.writeInt(stockCheckpoint.size());
+        for (int i = 0; i < stockCheckpoint.size(); i++) {
+            ProductStock productStock = productStocks.get(i);
+            writeString(output, productStock.getProductName());
+            output.writeInt(productStock.getProductPrice());
+            Promotion promotion = productStock.getPromotion();
+            output.writeInt(promotion == null ? NO_PROMOTION : promotionIndexes.get(promotion));
+            output.writeInt(stockCheckpoint.promotionQuantities()[i]);
+            output.writeInt(stockCheckpoint.regularQuantities()[i]);
+        }
+    }
+
+    private static void validateHeader(final ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    private static List<Promotion> readPromotions(final ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<Promotion> promotions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            int buyQuantity = buffer.getInt();
+            int getQuantity = buffer.getInt();
+            LocalDate startDate = LocalDate.ofEpochDay(buffer.getLong());
+            LocalDate endDate = LocalDate.ofEpochDay(buffer.getLong());
+            promotions.add(new Promotion(name, buyQuantity, getQuantity, startDate, endDate));
+        }
+        return promotions;
+    }
+
+    private static Inventory readProductStocks(final ByteBuffer buffer, final List<Promotion> promotions) {
+        int count = buffer.getInt();
+        Inventory inventory = new Inventory();
+        for (int i = 0; i < count; i++) {
+            String name = readString(buffer);
+            int price = buffer.getInt();
+            int promotionIndex = buffer.getInt();
+            Promotion promotion = promotionIndex == NO_PROMOTION ? null : promotions.get(promotionIndex);
+            ProductStock productStock = new ProductStock(new Product(name, price, promotion));
+            int promotionQuantity = buffer.getInt();
+            if (promotionQuantity >= 0) {
+                productStock.addPromotionQuantity(promotionQuantity);
+            }
+            productStock.addRegularQuantity(buffer.getInt());
+            inventory.addProductStock(productStock);
+        }
+        return inventory;
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void moveAtomically(final Path source, final Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package store.persistence;
+
+import java.util.List;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+
+/**
+ * 스냅샷에 쓸 상품별 수량(상품 번호 순서)과, 그 수량에 반영된 마지막 판매 기록의 번호와 위치.
+ * 복사만 락 안에서 하고 파일 기록은 락 밖에서 하기 위해 값을 떼어 낸다.
+ */
+public record StockCheckpoint(int[] promotionQuantities, int[] regularQuantities, long journalSequence,
+                              long journalOffset) {
+
+    // 판매 기록 없이 스냅샷만 쓸 때. 모든 상품을 잠근 상태에서 잡아 둔 수량을 포함한 재고를 복사한다.
+    public static StockCheckpoint copyOf(final Inventory inventory) {
+        StockCheckpoint[] checkpoint = new StockCheckpoint[1];
+        inventory.runWithAllLocked(() -> {
+            List<ProductStock> productStocks = inventory.getProductStocks();
+            int[] promotionQuantities = new int[productStocks.size()];
+            int[] regularQuantities = new int[productStocks.size()];
+            for (int i = 0; i < productStocks.size(); i++) {
+                promotionQuantities[i] = productStocks.get(i).getOwnedPromotionQuantity();
+                regularQuantities[i] = productStocks.get(i).getOwnedRegularQuantity();
+            }
+            checkpoint[0] = new StockCheckpoint(promotionQuantities, regularQuantities, 0, 0);
+        });
+        return checkpoint[0];
+    }
+
+    public int size() {
+        return promotionQuantities.length;
+    }
+}
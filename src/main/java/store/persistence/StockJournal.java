@@ -0,0 +1,378 @@
+package store.persistence;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockChange;
+import store.domain.product.stock.StockChangeListener;
+import store.domain.product.stock.StockCommitListener;
+import store.domain.product.stock.StockTransaction;
+
+/**
+ * 확정된 재고 변경량을 파일 끝에 덧붙이는 로그. commit 을 동시에 호출한 계산대들의 기록을 한 번의 fsync 로 함께 확정한다.
+ * 거래 중의 변경은 거래가 확정될 때 한꺼번에 덧붙이므로, 되돌려진 거래는 기록되지 않는다.
+ * <pre>
+ * 기록 : 길이, CRC32, (기록 번호, 상품명 길이, 상품명, 프로모션 변경량, 일반 변경량)
+ * </pre>
+ * 스냅샷에 쓸 수량은 기록과 함께 갱신하는 확정 수량에서 복사하므로, 진행 중인 거래의 변경은 스냅샷에 들어가지 않는다.
+ */
+public class StockJournal implements StockChangeListener, StockCommitListener, AutoCloseable {
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MIN_PAYLOAD_SIZE = Long.BYTES + Integer.BYTES * 3;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final long INVALID_RECORD = -1;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path path;
+    // 쓰기 차례(flushing)를 가진 스레드만 사용하며, 기록을 비울 때 새 파일로 바뀐다.
+    private FileChannel channel;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // 가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡지 않도록 모니터 대신 Condition을 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private long lastSequence;
+    private long durableSequence;
+    // 파일에 쓴 길이와 버퍼에 쌓인 길이의 합
+    private long appendedBytes;
+    private boolean flushing;
+    // 상품 번호별 확정 수량. appendLock 안에서 기록과 함께 갱신한다.
+    private int[] committedPromotionQuantities = new int[0];
+    private int[] committedRegularQuantities = new int[0];
+
+    private StockJournal(final Path path, final FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    public static StockJournal open(final Path path) {
+        return new StockJournal(path, openChannel(path));
+    }
+
+    private static FileChannel openChannel(final Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    public int replay(final Inventory inventory) {
+        return replay(inventory, 0);
+    }
+
+    /**
+     * afterSequence 이후의 기록을 재고에 다시 적용하고, 끝부분의 깨진 기록은 잘라낸다. 적용한 기록 수를 반환한다.
+     * 스냅샷에 이미 반영된 기록(번호가 afterSequence 이하)은 건너뛴다.
+     */
+    public int replay(final Inventory inventory, final long afterSequence) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer, 0);
+            buffer.flip();
+            int count = 0;
+            long maxSequence = afterSequence;
+            long sequence;
+            while ((sequence = applyRecord(buffer, inventory, afterSequence)) != INVALID_RECORD) {
+                if (sequence > afterSequence) {
+                    count++;
+                }
+                maxSequence = Math.max(maxSequence, sequence);
+            }
+            channel.truncate(buffer.position());
+            channel.position(buffer.position());
+            lastSequence = maxSequence;
+            durableSequence = maxSequence;
+            appendedBytes = buffer.position();
+            return count;
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    /**
+     * 현재 재고를 확정 수량의 기준으로 삼고 변경 알림을 등록한다. 복원이 끝나고 판매가 시작되기 전에 호출한다.
+     * 이후 등록된 상품은 기록은 되지만 확정 수량(스냅샷)에는 포함되지 않는다.
+     */
+    public void attach(final Inventory inventory) {
+        List<ProductStock> productStocks = inventory.getProductStocks();
+        appendLock.lock();
+        try {
+            committedPromotionQuantities = new int[productStocks.size()];
+            committedRegularQuantities = new int[productStocks.size()];
+            for (ProductStock productStock : productStocks) {
+                committedPromotionQuantities[productStock.getId()] = productStock.getOwnedPromotionQuantity();
+                committedRegularQuantities[productStock.getId()] = productStock.getOwnedRegularQuantity();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        inventory.addStockChangeListener(this);
+    }
+
+    // 거래 중의 변경은 거래가 확정될 때 onCommit 으로 받는다.
+    @Override
+    public void onChange(final ProductStock productStock, final int promotionDelta, final int regularDelta) {
+        if (StockTransaction.deferToCommit(this)) {
+            return;
+        }
+        append(List.of(new StockChange(productStock, promotionDelta, regularDelta)));
+    }
+
+    @Override
+    public void onCommit(final List<StockChange> changes) {
+        append(changes);
+    }
+
+    // 한 거래의 기록은 한 번에 덧붙여 일부만 파일에 쓰이지 않게 한다.
+    private void append(final List<StockChange> changes) {
+        appendLock.lock();
+        try {
+            for (StockChange change : changes) {
+                appendRecord(change);
+                applyCommitted(change);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void appendRecord(final StockChange change) {
+        byte[] name = change.productStock().getProductName().getBytes(StandardCharsets.UTF_8);
+        int payloadSize = MIN_PAYLOAD_SIZE + name.length;
+        ensureCapacity(RECORD_HEADER_SIZE + payloadSize);
+        int start = pending.position();
+        pending.putInt(payloadSize).putInt(0);
+        pending.putLong(++lastSequence).putInt(name.length).put(name)
+                .putInt(change.promotionDelta()).putInt(change.regularDelta());
+        pending.putInt(start + Integer.BYTES, checksum(pending, start + RECORD_HEADER_SIZE, payloadSize));
+        appendedBytes += RECORD_HEADER_SIZE + payloadSize;
+    }
+
+    // 프로모션 재고가 없던 상품(-1)에 입고되면 0부터 센다. ProductStock 과 같은 규칙이다.
+    private void applyCommitted(final StockChange change) {
+        int id = change.productStock().getId();
+        if (id < 0 || id >= committedPromotionQuantities.length) {
+            return;
+        }
+        if (change.promotionDelta() != 0) {
+            committedPromotionQuantities[id] = Math.max(committedPromotionQuantities[id], 0)
+                    + change.promotionDelta();
+        }
+        committedRegularQuantities[id] += change.regularDelta();
+    }
+
+    /**
+     * 지금까지 덧붙인 기록이 디스크에 확정될 때까지 기다린다. 다른 스레드가 쓰는 중이면 그 결과를 함께 기다린다.
+     */
+    public void commit() {
+        long target = currentSequence();
+        flushLock.lock();
+        try {
+            while (durableSequence < target && flushing) {
+                waitForFlush();
+            }
+            if (durableSequence >= target) {
+                return;
+            }
+            flushing = true;
+        } finally {
+            flushLock.unlock();
+        }
+        long flushedSequence = durableSequence;
+        try {
+            flushedSequence = flush();
+        } finally {
+            releaseFlushing(flushedSequence);
+        }
+    }
+
+    /**
+     * 확정 수량과 마지막 기록 번호를 함께 복사한다. 기록을 덧붙이는 락만 잠깐 잡으며, 스냅샷 파일은 호출한 쪽에서 락 없이 쓴다.
+     */
+    public StockCheckpoint beginCheckpoint() {
+        appendLock.lock();
+        try {
+            return new StockCheckpoint(committedPromotionQuantities.clone(), committedRegularQuantities.clone(),
+                    lastSequence, appendedBytes);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷이 디스크에 확정된 뒤 호출한다. 스냅샷에 반영된 앞부분을 버리고, 그 뒤의 기록만 새 파일에 옮겨 쓴 다음 교체한다.
+     * 교체 전에 종료되어도 남은 앞부분은 복원 시 기록 번호로 건너뛴다.
+     */
+    public void discardThrough(final StockCheckpoint stockCheckpoint) {
+        commit();
+        acquireFlushing();
+        try {
+            long offset = stockCheckpoint.journalOffset();
+            Path temporary = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+            try (FileChannel target = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long end = channel.size();
+                for (long position = offset; position < end; ) {
+                    position += channel.transferTo(position, end - position, target);
+                }
+                target.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            channel = openChannel(path);
+            channel.position(channel.size());
+            shiftAppendedBytes(-offset);
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        } finally {
+            releaseFlushing(durableSequence);
+        }
+    }
+
+    private void shiftAppendedBytes(final long delta) {
+        appendLock.lock();
+        try {
+            appendedBytes += delta;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        commit();
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    private long currentSequence() {
+        appendLock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 파일을 쓰는 스레드는 한 번에 하나이다.
+    private void acquireFlushing() {
+        flushLock.lock();
+        try {
+            while (flushing) {
+                waitForFlush();
+            }
+            flushing = true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void releaseFlushing(final long flushedSequence) {
+        flushLock.lock();
+        try {
+            durableSequence = Math.max(durableSequence, flushedSequence);
+            flushing = false;
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 쌓인 기록을 교체한 버퍼로 넘겨받아, 락 없이 쓰고 fsync 한다.
+    private long flush() {
+        long sequence;
+        ByteBuffer buffer;
+        appendLock.lock();
+        try {
+            buffer = pending;
+            pending = writing;
+            writing = buffer;
+            sequence = lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        } finally {
+            buffer.clear();
+        }
+        return sequence;
+    }
+
+    private void waitForFlush() {
+        try {
+            flushed.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void ensureCapacity(final int recordSize) {
+        if (pending.remaining() >= recordSize) {
+            return;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + recordSize));
+        pending.flip();
+        larger.put(pending);
+        pending = larger;
+    }
+
+    // 기록 번호를 반환한다. 깨졌거나 남은 길이가 모자라면 INVALID_RECORD
+    private long applyRecord(final ByteBuffer buffer, final Inventory inventory, final long afterSequence) {
+        if (buffer.remaining() < RECORD_HEADER_SIZE) {
+            return INVALID_RECORD;
+        }
+        int start = buffer.position();
+        int payloadSize = buffer.getInt(start);
+        int expectedChecksum = buffer.getInt(start + Integer.BYTES);
+        int payloadStart = start + RECORD_HEADER_SIZE;
+        if (payloadSize < MIN_PAYLOAD_SIZE || buffer.limit() - payloadStart < payloadSize
+                || checksum(buffer, payloadStart, payloadSize) != expectedChecksum) {
+            return INVALID_RECORD;
+        }
+        buffer.position(payloadStart);
+        long sequence = buffer.getLong();
+        byte[] name = new byte[buffer.getInt()];
+        buffer.get(name);
+        int promotionDelta = buffer.getInt();
+        int regularDelta = buffer.getInt();
+        ProductStock productStock = inventory.getProductStock(new String(name, StandardCharsets.UTF_8));
+        if (sequence > afterSequence && productStock != null) {
+            productStock.applyChange(promotionDelta, regularDelta);
+        }
+        return sequence;
+    }
+
+    private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package store.replenishment;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockChangeListener;
+import store.util.IntRingBuffer;
+
+/**
+ * 차감 후 남은 수량이 기준 이하인 상품의 번호를 링 버퍼에 넣는다. 계산대 스레드는 CAS 몇 번만 하고 기다리지 않는다.
+ * 상품마다 대기 표시를 두어, 보충 스레드가 꺼내기 전까지 같은 상품은 한 번만 넣는다.
+ * 그래서 버퍼에는 상품 수보다 많은 번호가 쌓이지 않는다.
+ * 등록 이후 추가된 상품은 감시하지 않는다.
+ */
+public class LowStockDetector implements StockChangeListener {
+
+    private static final int IDLE = 0;
+    private static final int PENDING = 1;
+
+    private final int threshold;
+    private final List<ProductStock> productStocks;
+    private final AtomicIntegerArray pending;
+    private final IntRingBuffer ringBuffer;
+    private final LongAdder dropped;
+
+    private LowStockDetector(final List<ProductStock> productStocks, final int threshold) {
+        this.threshold = threshold;
+        this.productStocks = productStocks;
+        this.pending = new AtomicIntegerArray(productStocks.size());
+        this.ringBuffer = new IntRingBuffer(productStocks.size());
+        this.dropped = new LongAdder();
+    }
+
+    public static LowStockDetector register(final Inventory inventory, final int threshold) {
+        LowStockDetector lowStockDetector = new LowStockDetector(List.copyOf(inventory.getProductStocks()),
+                threshold);
+        inventory.addStockChangeListener(lowStockDetector);
+        return lowStockDetector;
+    }
+
+    // 상품별 락 안에서 호출된다. 입고와 되돌림(양수)은 무시한다.
+    @Override
+    public void onChange(final ProductStock productStock, final int promotionDelta, final int regularDelta) {
+        if (promotionDelta >= 0 && regularDelta >= 0) {
+            return;
+        }
+        int id = productStock.getId();
+        if (id < 0 || id >= pending.length() || totalQuantity(productStock) > threshold) {
+            return;
+        }
+        if (!pending.compareAndSet(id, IDLE, PENDING)) {
+            return;
+        }
+        if (!ringBuffer.offer(id)) {
+            pending.set(id, IDLE);
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 쌓인 상품을 모두 꺼내 아직 기준 이하인 것만 전달한다. 한 스레드에서만 호출한다.
+     * 대기 표시를 먼저 지우고 수량을 읽으므로, 그 뒤의 판매는 다음 번에 다시 전달된다.
+     */
+    public int drain(final Consumer<LowStockEvent> consumer) {
+        int count = 0;
+        int id;
+        while ((id = ringBuffer.poll()) != IntRingBuffer.EMPTY) {
+            pending.set(id, IDLE);
+            ProductStock productStock = productStocks.get(id);
+            LowStockEvent lowStockEvent = new LowStockEvent(productStock.getProductName(),
+                    Math.max(0, productStock.getPromotionQuantity()), productStock.getRegularQuantity());
+            if (lowStockEvent.totalQuantity() <= threshold) {
+                consumer.accept(lowStockEvent);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int totalQuantity(final ProductStock productStock) {
+        return Math.max(0, productStock.getPromotionQuantity()) + productStock.getRegularQuantity();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // 버퍼가 가득 차 넣지 못한 횟수. 상품 수만큼의 용량이 있으므로 정상이라면 0 이다.
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
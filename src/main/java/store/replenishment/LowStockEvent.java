@@ -0,0 +1,9 @@
+package store.replenishment;
+
+// 판매할 수 있는 수량이 기준 이하로 내려간 상품. 수량은 보충 스레드가 꺼낸 시점의 값이다.
+public record LowStockEvent(String productName, int promotionQuantity, int regularQuantity) {
+
+    public int totalQuantity() {
+        return promotionQuantity + regularQuantity;
+    }
+}
@@ -0,0 +1,75 @@
+package store.replenishment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 백그라운드 스레드에서 주기마다 재고 부족 상품을 꺼내 한 묶음으로 전달한다.
+ * 주기 동안 같은 상품이 여러 번 팔려도 한 번만 전달되며, 처리기가 느려도 계산대는 기다리지 않는다.
+ */
+public class ReplenishmentConsumer implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final LowStockDetector lowStockDetector;
+    private final Consumer<List<LowStockEvent>> handler;
+    private final long intervalNanos;
+    private final Thread thread;
+    private volatile boolean running;
+
+    private ReplenishmentConsumer(final LowStockDetector lowStockDetector,
+                                  final Consumer<List<LowStockEvent>> handler, final Duration interval) {
+        this.lowStockDetector = lowStockDetector;
+        this.handler = handler;
+        this.intervalNanos = interval.toNanos();
+        this.thread = new Thread(this::run, "replenishment");
+        this.thread.setDaemon(true);
+        this.running = true;
+    }
+
+    public static ReplenishmentConsumer start(final LowStockDetector lowStockDetector,
+                                              final Consumer<List<LowStockEvent>> handler,
+                                              final Duration interval) {
+        ReplenishmentConsumer replenishmentConsumer = new ReplenishmentConsumer(lowStockDetector, handler,
+                interval);
+        replenishmentConsumer.thread.start();
+        return replenishmentConsumer;
+    }
+
+    private void run() {
+        while (running) {
+            drainQuietly();
+            LockSupport.parkNanos(intervalNanos);
+        }
+        // 닫기 직전에 쌓인 상품까지 전달한다.
+        drainQuietly();
+    }
+
+    // 처리기의 예외로 스레드가 멈추지 않도록 한 묶음의 실패는 버린다.
+    private void drainQuietly() {
+        List<LowStockEvent> batch = new ArrayList<>();
+        lowStockDetector.drain(batch::add);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            handler.accept(batch);
+        } catch (RuntimeException exception) {
+            // 다음 판매 때 다시 전달된다.
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
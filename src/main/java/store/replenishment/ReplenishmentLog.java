@@ -0,0 +1,43 @@
+package store.replenishment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 보충 요청을 "시각,상품명,프로모션 재고,일반 재고" 형식으로 파일 끝에 덧붙인다.
+ */
+public class ReplenishmentLog implements Consumer<List<LowStockEvent>> {
+
+    private static final String LINE = System.lineSeparator();
+
+    private final Path file;
+
+    public ReplenishmentLog(final Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void accept(final List<LowStockEvent> lowStockEvents) {
+        String now = LocalDateTime.now().toString();
+        StringBuilder builder = new StringBuilder();
+        for (LowStockEvent lowStockEvent : lowStockEvents) {
+            builder.append(now).append(',')
+                    .append(lowStockEvent.productName()).append(',')
+                    .append(lowStockEvent.promotionQuantity()).append(',')
+                    .append(lowStockEvent.regularQuantity()).append(LINE);
+        }
+        try {
+            Files.writeString(file, builder, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
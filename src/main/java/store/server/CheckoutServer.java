@@ -0,0 +1,175 @@
+package store.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import store.analytics.SalesLedger;
+import store.config.StoreOptions;
+import store.controller.StoreController;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionCalendar;
+import store.persistence.InventoryRepository;
+import store.service.StoreService;
+import store.util.ExceptionHandler;
+import store.view.InputView;
+import store.view.InventoryBoard;
+import store.view.OutputView;
+import store.view.io.ChannelInputReader;
+import store.view.io.ChannelOutputWriter;
+
+/**
+ * 로컬 소켓으로 접속한 고객마다 가상 스레드 하나에서 구매 과정을 진행한다. 모든 세션이 하나의 재고를 공유한다.
+ * 프로토콜은 콘솔과 같다. 서버가 안내 문구를 보내고, 고객은 한 줄씩 응답한다. 영수증을 보낸 뒤 연결을 닫는다.
+ */
+public class CheckoutServer implements AutoCloseable {
+
+    private static final int BACKLOG = 16_384;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+    private static final int MAX_ACCEPT_FAILURES = 20;
+    private static final long INITIAL_ACCEPT_BACKOFF_MILLIS = 10;
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1_000;
+
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService sessions;
+    // 종료할 때 응답을 기다리는 세션을 깨우기 위해 열린 연결을 모아 둔다.
+    private final Set<SocketChannel> clientChannels = ConcurrentHashMap.newKeySet();
+    private final StoreService storeService;
+    private final StoreOptions storeOptions;
+    private final InventoryRepository inventoryRepository;
+    private final Inventory inventory;
+    private final PromotionCalendar promotionCalendar;
+    private final SalesLedger salesLedger;
+    // 모든 세션이 같은 재고 목록을 보여주므로 그려 둔 행을 공유
+    private final InventoryBoard inventoryBoard;
+
+    public CheckoutServer(final StoreOptions storeOptions, final StoreService storeService,
+                          final InventoryRepository inventoryRepository, final Inventory inventory,
+                          final PromotionCalendar promotionCalendar, final SalesLedger salesLedger) {
+        this.serverChannel = open(storeOptions.serverPort());
+        this.sessions = Executors.newVirtualThreadPerTaskExecutor();
+        this.storeService = storeService;
+        this.storeOptions = storeOptions;
+        this.inventoryRepository = inventoryRepository;
+        this.inventory = inventory;
+        this.promotionCalendar = promotionCalendar;
+        this.salesLedger = salesLedger;
+        this.inventoryBoard = new InventoryBoard();
+    }
+
+    private static ServerSocketChannel open(final int port) {
+        try {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+            channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+            return channel;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // 서버 채널이 닫힐 때까지 접속을 받는다.
+    public void serve() {
+        int acceptFailures = 0;
+        while (serverChannel.isOpen()) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException exception) {
+                // 서버 채널이 닫히면 종료하고, 열려 있으면 점점 길게 쉬었다가 다시 받는다.
+                if (!serverChannel.isOpen()) {
+                    return;
+                }
+                acceptFailures++;
+                if (acceptFailures >= MAX_ACCEPT_FAILURES) {
+                    throw new UncheckedIOException(exception);
+                }
+                LockSupport.parkNanos(acceptBackoffNanos(acceptFailures));
+                continue;
+            }
+            acceptFailures = 0;
+            clientChannels.add(channel);
+            try {
+                sessions.execute(() -> runSession(channel));
+            } catch (RejectedExecutionException exception) {
+                // 종료 중에 받은 접속은 세션을 시작하지 않고 닫는다.
+                closeClient(channel);
+            }
+        }
+    }
+
+    // 첫 실패는 10ms 를 쉬고, 실패가 이어질 때마다 두 배씩 최대 1초까지 늘린다.
+    private static long acceptBackoffNanos(final int acceptFailures) {
+        long backoffMillis = Math.min(MAX_ACCEPT_BACKOFF_MILLIS, INITIAL_ACCEPT_BACKOFF_MILLIS << (acceptFailures - 1));
+        return TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+    }
+
+    // 가상 스레드에서 블로킹 채널을 사용하므로 대기 중에는 캐리어 스레드를 점유하지 않는다.
+    private void runSession(final SocketChannel channel) {
+        try (channel) {
+            OutputView outputView = new OutputView(new ChannelOutputWriter(channel), inventoryBoard);
+            InputView inputView = new InputView(new ChannelInputReader(channel));
+            StoreController controller = new StoreController(inputView, outputView,
+                    new ExceptionHandler(outputView), storeService, storeOptions, salesLedger);
+            controller.checkout(inventoryRepository, inventory, promotionCalendar);
+        } catch (IOException | UncheckedIOException | NoSuchElementException | IllegalArgumentException exception) {
+            // 고객이 응답 도중 연결을 끊었거나 잘못 응답한 경우. 진행 중이던 거래는 되돌려진다.
+        } finally {
+            clientChannels.remove(channel);
+        }
+    }
+
+    private void closeClient(final SocketChannel channel) {
+        clientChannels.remove(channel);
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    /**
+     * 새 접속을 막고, 응답을 기다리는 세션의 연결을 닫아 깨운 뒤 끝나기를 기다린다.
+     * 연결이 닫힌 세션은 진행 중이던 거래를 되돌리고 끝나므로, 종료 후의 스냅샷에는 확정된 판매만 남는다.
+     */
+    @Override
+    public void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            sessions.shutdown();
+            clientChannels.forEach(this::closeClient);
+            awaitSessions();
+        }
+    }
+
+    private void awaitSessions() {
+        try {
+            if (!sessions.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                sessions.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            sessions.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package store.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionRegistry;
+import store.persistence.InventorySnapshot;
+
+/**
+ * 체크아웃 서버에 동시에 여러 세션을 열어 지연 시간 분포를 측정한다.
+ * <pre>
+ * java -cp ... store.server.LoadGenerator prepare [스냅샷 파일] [세션 수]
+ * java -Dstore.snapshot=[스냅샷 파일] -cp ... store.Application server
+ * java -cp ... store.server.LoadGenerator [포트] [세션 수] [응답 줄...]
+ * 예) 9090 10000 "[물-1]" N
+ * </pre>
+ * 기본 상품 파일의 물은 10개뿐이므로, 먼저 prepare 로 세션 수만큼 물이 있는 스냅샷을 만들어 서버에 읽힌다.
+ * 응답 줄은 접속 직후 한 번에 보내며, 영수증(내실돈)을 받은 세션을 완료로 센다.
+ * 지연 시간 분포는 완료된 세션만으로 계산하고, 실패한 세션은 따로 센다.
+ */
+public class LoadGenerator {
+
+    private static final int DEFAULT_PORT = 9090;
+    private static final int DEFAULT_SESSIONS = 10_000;
+    private static final List<String> DEFAULT_ANSWERS = List.of("[물-1]", "N");
+    private static final String RECEIPT_MARKER = "내실돈";
+    private static final String PREPARE_MODE = "prepare";
+    private static final String LOAD_PRODUCT_NAME = "물";
+    private static final int LOAD_PRODUCT_PRICE = 500;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 1 && args[0].equals(PREPARE_MODE)) {
+            prepare(Path.of(args[1]), argument(args, 2, DEFAULT_SESSIONS));
+            return;
+        }
+        int port = argument(args, 0, DEFAULT_PORT);
+        int sessions = argument(args, 1, DEFAULT_SESSIONS);
+        List<String> answers = DEFAULT_ANSWERS;
+        if (args.length > 2) {
+            answers = Arrays.asList(args).subList(2, args.length);
+        }
+        byte[] request = (String.join("\n", answers) + "\n").getBytes(StandardCharsets.UTF_8);
+        run(port, sessions, request);
+    }
+
+    private static int argument(final String[] args, final int index, final int defaultValue) {
+        if (args.length > index) {
+            return Integer.parseInt(args[index]);
+        }
+        return defaultValue;
+    }
+
+    // 모든 세션이 물 하나씩 사도 재고가 모자라지 않는 스냅샷
+    private static void prepare(final Path snapshotFile, final int sessions) {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product(LOAD_PRODUCT_NAME, LOAD_PRODUCT_PRICE, null), sessions);
+        new InventorySnapshot(PromotionRegistry.from(List.of()), inventory).write(snapshotFile);
+    }
+
+    private static void run(final int port, final int sessions, final byte[] request) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SessionResult>> results = new ArrayList<>(sessions);
+        long begin;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return runSession(port, request);
+                }));
+            }
+            begin = System.nanoTime();
+            start.countDown();
+        }
+        long elapsed = System.nanoTime() - begin;
+        List<Long> completed = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        for (Future<SessionResult> result : results) {
+            SessionResult sessionResult = result.get();
+            if (sessionResult.completed()) {
+                completed.add(sessionResult.latency());
+                continue;
+            }
+            failed.add(sessionResult.latency());
+        }
+        report(sessions, elapsed);
+        reportLatencies("completed", sort(completed));
+        reportLatencies("failed", sort(failed));
+    }
+
+    // 세션 하나의 접속부터 연결이 닫힐 때까지 걸린 시간과 영수증 수신 여부
+    private static SessionResult runSession(final int port, final byte[] request) {
+        long started = System.nanoTime();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            OutputStream output = socket.getOutputStream();
+            output.write(request);
+            output.flush();
+            socket.shutdownOutput();
+            boolean receipt = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                receipt |= line.contains(RECEIPT_MARKER);
+            }
+            return new SessionResult(receipt, System.nanoTime() - started);
+        } catch (IOException exception) {
+            return new SessionResult(false, System.nanoTime() - started);
+        }
+    }
+
+    private static long[] sort(final List<Long> latencies) {
+        long[] sorted = latencies.stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static void report(final int sessions, final long elapsed) {
+        System.out.printf("sessions=%d elapsed=%dms%n", sessions, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private static void reportLatencies(final String label, final long[] latencies) {
+        if (latencies.length == 0) {
+            System.out.printf("%s=0%n", label);
+            return;
+        }
+        System.out.printf("%s=%d p50=%.2fms p99=%.2fms max=%.2fms%n", label, latencies.length,
+                toMillis(percentile(latencies, 0.50)), toMillis(percentile(latencies, 0.99)),
+                toMillis(latencies[latencies.length - 1]));
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record SessionResult(boolean completed, long latency) {
+    }
+}
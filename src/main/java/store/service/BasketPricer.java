@@ -0,0 +1,125 @@
+package store.service;
+
+import static store.exception.ErrorMessage.INVALID_PRODUCT;
+
+import java.util.ArrayList;
+import java.util.List;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Order;
+import store.domain.order.OrderResult;
+import store.domain.order.Orders;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockTransaction;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.MembershipCalculator;
+import store.domain.promotion.PromotionResult;
+import store.domain.receipt.ReceiptBuilder;
+import store.exception.CustomIllegalArgumentException;
+import store.metrics.CheckoutMetrics;
+import store.metrics.CheckoutStage;
+
+/**
+ * 장바구니 전체를 한 번 순회하며 프로모션 계산, 멤버십 할인, 영수증 합계를 함께 구한다.
+ * <p>
+ * 주문 줄은 {@link StoreService}로 처리하고 안내 질문에는 {@link AnswerPolicy}의 응답을 사용한다.
+ * 멤버십 할인 한도(8000원)는 상품별이 아니라 장바구니 전체에 한 번 적용하며, 줄마다 늘어난 할인액만큼을 그 줄에 나눠 싣는다.
+ */
+public class BasketPricer {
+
+    private final StoreService storeService;
+    private final Inventory inventory;
+    private final AnswerPolicy answerPolicy;
+    private final MembershipCalculator membershipCalculator = new MembershipCalculator();
+    private final CheckoutMetrics checkoutMetrics = CheckoutMetrics.global();
+
+    public BasketPricer(final StoreService storeService, final Inventory inventory, final AnswerPolicy answerPolicy) {
+        this.storeService = storeService;
+        this.inventory = inventory;
+        this.answerPolicy = answerPolicy;
+    }
+
+    // 예상 금액만 계산한다. 거래를 확정하지 않고 닫으므로 재고는 그대로 남는다.
+    public BasketQuote quote(final Orders orders, final ActivePromotions activePromotions) {
+        List<ProductStock> productStocks = findProductStocks(orders);
+        try (StockTransaction transaction = StockTransaction.begin(productStocks)) {
+            return price(productStocks, orders, activePromotions);
+        }
+    }
+
+    public List<ProductStock> findProductStocks(final Orders orders) {
+        List<ProductStock> productStocks = new ArrayList<>(orders.getOrders().size());
+        for (Order order : orders.getOrders()) {
+            productStocks.add(findProductStock(order.getName()));
+        }
+        return productStocks;
+    }
+
+    // 호출한 쪽의 거래 안에서 재고를 차감하며 계산한다. productStocks 는 주문 줄과 같은 순서여야 한다.
+    public BasketQuote price(final List<ProductStock> productStocks, final Orders orders,
+                             final ActivePromotions activePromotions) {
+        List<Order> lines = orders.getOrders();
+        List<OrderResult> orderResults = new ArrayList<>(lines.size());
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder(lines.size());
+        long regularPriceAmount = 0;
+        long membershipDiscountAmount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            ProductStock productStock = productStocks.get(i);
+            PromotionResult promotionResult = processOrder(productStock, lines.get(i).getQuantity(),
+                    activePromotions);
+            int lineMembershipDiscount = 0;
+            if (answerPolicy.membership()) {
+                regularPriceAmount = Math.addExact(regularPriceAmount,
+                        membershipCalculator.calculateRegularPriceAmount(productStock.getProductPrice(),
+                                promotionResult));
+                long totalMembershipDiscount = membershipCalculator.calculateTotal(regularPriceAmount);
+                lineMembershipDiscount = (int) (totalMembershipDiscount - membershipDiscountAmount);
+                membershipDiscountAmount = totalMembershipDiscount;
+            }
+            OrderResult orderResult = OrderResult.of(productStock, promotionResult, lineMembershipDiscount);
+            orderResults.add(orderResult);
+            receiptBuilder.add(orderResult);
+        }
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.RECEIPT_BUILD);
+        BasketQuote basketQuote = new BasketQuote(orderResults, receiptBuilder.build());
+        checkoutMetrics.stopTimer(CheckoutStage.RECEIPT_BUILD, startNanos);
+        return basketQuote;
+    }
+
+    private ProductStock findProductStock(final String productName) {
+        ProductStock productStock = inventory.getProductStock(productName);
+        if (productStock == null) {
+            throw new CustomIllegalArgumentException(INVALID_PRODUCT);
+        }
+        return productStock;
+    }
+
+    private PromotionResult processOrder(final ProductStock productStock, final int quantity,
+                                         final ActivePromotions activePromotions) {
+        PromotionResult promotionResult = storeService.processOrder(quantity, productStock, activePromotions);
+        promotionResult = processPaymentOption(productStock, promotionResult);
+        return processBenefitOption(productStock, promotionResult);
+    }
+
+    private PromotionResult processPaymentOption(final ProductStock productStock,
+                                                 final PromotionResult promotionResult) {
+        if (!promotionResult.askRegularPayment()) {
+            return promotionResult;
+        }
+        if (answerPolicy.regularPayment()) {
+            return storeService.processRegularPayment(productStock, promotionResult);
+        }
+        return storeService.processOnlyPromotionPayment(productStock, promotionResult);
+    }
+
+    private PromotionResult processBenefitOption(final ProductStock productStock,
+                                                 final PromotionResult promotionResult) {
+        if (!promotionResult.askBenefit()) {
+            return promotionResult;
+        }
+        if (answerPolicy.benefit()) {
+            return storeService.processBenefitOption(productStock, promotionResult);
+        }
+        return storeService.processNoBenefitOption(productStock, promotionResult);
+    }
+}
@@ -0,0 +1,13 @@
+package store.service;
+
+import java.util.List;
+import store.domain.order.OrderResult;
+import store.domain.receipt.Receipt;
+
+// 장바구니 전체의 주문 결과와 합계가 계산된 영수증
+public record BasketQuote(List<OrderResult> orderResults, Receipt receipt) {
+
+    public long payAmount() {
+        return receipt.getTotalPayAmount();
+    }
+}
@@ -0,0 +1,73 @@
+package store.service;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import store.analytics.SalesLedger;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Orders;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockTransaction;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.receipt.Receipt;
+
+// 콘솔 입력 없이 정해진 응답으로 주문을 일괄 처리하여 영수증을 전달
+public class BatchOrderEngine {
+
+    private final BasketPricer basketPricer;
+    private final PromotionCalendar promotionCalendar;
+    private final SalesLedger salesLedger;
+
+    public BatchOrderEngine(final StoreService storeService, final Inventory inventory,
+                            final PromotionCalendar promotionCalendar, final AnswerPolicy answerPolicy,
+                            final SalesLedger salesLedger) {
+        this.basketPricer = new BasketPricer(storeService, inventory, answerPolicy);
+        this.promotionCalendar = promotionCalendar;
+        this.salesLedger = salesLedger;
+    }
+
+    // 거래 단위로 처리하며, 상품이 없거나 재고가 부족한 거래는 건너뛴다.
+    public BatchSummary process(final Stream<Orders> transactions, final Consumer<Receipt> receiptSink) {
+        int receiptCount = 0;
+        int rejectedCount = 0;
+        Iterator<Orders> iterator = transactions.iterator();
+        while (iterator.hasNext()) {
+            Receipt receipt;
+            try {
+                receipt = processOrders(iterator.next(), findActivePromotions());
+            } catch (IllegalArgumentException exception) {
+                rejectedCount++;
+                continue;
+            }
+            receiptCount++;
+            // 전달 중 생긴 예외는 거래 실패가 아니므로 거절로 세지 않고 그대로 던진다.
+            receiptSink.accept(receipt);
+        }
+        return new BatchSummary(receiptCount, rejectedCount);
+    }
+
+    public Receipt processOrders(final Orders orders) {
+        return processOrders(orders, findActivePromotions());
+    }
+
+    // 날짜가 바뀌지 않았다면 캘린더가 같은 결과를 재사용하므로 거래마다 조회해도 비용이 작다.
+    private ActivePromotions findActivePromotions() {
+        return promotionCalendar.activeOn(DateTimes.now().toLocalDate());
+    }
+
+    // 거래에 포함된 상품을 모두 잠근 뒤 처리하고, 한 주문이라도 실패하면 거래 전체를 되돌린다.
+    private Receipt processOrders(final Orders orders, final ActivePromotions activePromotions) {
+        List<ProductStock> productStocks = basketPricer.findProductStocks(orders);
+        BasketQuote basketQuote;
+        try (StockTransaction transaction = StockTransaction.begin(productStocks)) {
+            basketQuote = basketPricer.price(productStocks, orders, activePromotions);
+            transaction.commit();
+        }
+        salesLedger.append(basketQuote.orderResults());
+        return basketQuote.receipt();
+    }
+}
@@ -0,0 +1,4 @@
+package store.service;
+
+public record BatchSummary(int receiptCount, int rejectedCount) {
+}
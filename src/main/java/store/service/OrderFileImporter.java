@@ -0,0 +1,214 @@
+package store.service;
+
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.stock.Inventory;
+import store.domain.receipt.Receipt;
+import store.exception.CustomIllegalArgumentException;
+import store.util.CsvRow;
+import store.util.JsonRow;
+import store.util.StoreFileReader;
+
+/**
+ * 도매 주문 파일을 읽으며 거래 단위로 바로 처리하고, 영수증을 처리한 순서대로 전달한다.
+ * <pre>
+ * CSV    : customer,product,quantity (첫 행은 헤더)
+ * NDJSON : {"customer":"A","product":"콜라","quantity":3}
+ * </pre>
+ * 같은 고객의 주문이 연속된 행들을 하나의 거래로 묶는다. 파일은 구간 단위로 매핑하여 읽고, 진행 중인 거래 하나만 보관하므로
+ * 파일 크기와 관계없이 사용하는 메모리가 일정하다. 행을 담을 때마다 재고에 있는 상품인지 확인하여, 없는 상품이나 이미 담은
+ * 상품이 나오면 그 거래의 남은 행은 담지 않는다. 따라서 거래 하나의 크기는 재고에 등록된 상품 수를 넘지 않는다.
+ * 형식이 잘못된 행도 가져오기를 멈추지 않고 그 행의 거래만 건너뛴다.
+ */
+public class OrderFileImporter {
+
+    private static final String NDJSON_EXTENSION = ".ndjson";
+    private static final String JSON_LINES_EXTENSION = ".jsonl";
+    private static final int CUSTOMER_COLUMN = 0;
+    private static final int PRODUCT_COLUMN = 1;
+    private static final int QUANTITY_COLUMN = 2;
+    private static final String CUSTOMER_KEY = "customer";
+    private static final String PRODUCT_KEY = "product";
+    private static final String QUANTITY_KEY = "quantity";
+
+    private final BatchOrderEngine batchOrderEngine;
+    private final Inventory inventory;
+
+    public OrderFileImporter(final BatchOrderEngine batchOrderEngine, final Inventory inventory) {
+        this.batchOrderEngine = batchOrderEngine;
+        this.inventory = inventory;
+    }
+
+    // 확장자가 .ndjson, .jsonl 이면 NDJSON, 그 외에는 CSV 로 읽는다.
+    public BatchSummary importFile(final Path path, final Consumer<Receipt> receiptSink) {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(NDJSON_EXTENSION) || fileName.endsWith(JSON_LINES_EXTENSION)) {
+            return importNdjson(path, receiptSink);
+        }
+        return importCsv(path, receiptSink);
+    }
+
+    public BatchSummary importCsv(final Path path, final Consumer<Receipt> receiptSink) {
+        BasketCollector basketCollector = new BasketCollector(receiptSink);
+        StoreFileReader.readRows(path, row -> importRow(row, basketCollector));
+        return basketCollector.finish();
+    }
+
+    public BatchSummary importNdjson(final Path path, final Consumer<Receipt> receiptSink) {
+        BasketCollector basketCollector = new BasketCollector(receiptSink);
+        JsonRow row = new JsonRow();
+        StoreFileReader.readLines(path, line -> importRow(row, line, basketCollector));
+        return basketCollector.finish();
+    }
+
+    // 행을 읽는 중 형식 오류가 나면 그 행의 고객(읽지 못했다면 그 행 하나)을 거절하고 다음 행으로 넘어간다.
+    private void importRow(final CsvRow row, final BasketCollector basketCollector) {
+        String customer = null;
+        String productName;
+        int quantity;
+        try {
+            customer = customerOf(row, basketCollector);
+            productName = row.text(PRODUCT_COLUMN);
+            quantity = row.integer(QUANTITY_COLUMN);
+        } catch (CustomIllegalArgumentException exception) {
+            basketCollector.rejectRow(customer);
+            return;
+        }
+        basketCollector.add(customer, productName, quantity);
+    }
+
+    private void importRow(final JsonRow row, final CharBuffer line, final BasketCollector basketCollector) {
+        String customer = null;
+        String productName;
+        int quantity;
+        try {
+            row.reset(line);
+            if (row.isBlank()) {
+                return;
+            }
+            customer = customerOf(row, basketCollector);
+            productName = row.text(PRODUCT_KEY);
+            quantity = row.integer(QUANTITY_KEY);
+        } catch (CustomIllegalArgumentException exception) {
+            basketCollector.rejectRow(customer);
+            return;
+        }
+        basketCollector.add(customer, productName, quantity);
+    }
+
+    // 같은 고객이 이어지는 동안에는 고객 번호 문자열을 새로 만들지 않는다.
+    private String customerOf(final CsvRow row, final BasketCollector basketCollector) {
+        String customer = basketCollector.getCustomer();
+        if (customer != null && row.matches(CUSTOMER_COLUMN, customer)) {
+            return customer;
+        }
+        return row.text(CUSTOMER_COLUMN);
+    }
+
+    private String customerOf(final JsonRow row, final BasketCollector basketCollector) {
+        String customer = basketCollector.getCustomer();
+        if (customer != null && row.matches(CUSTOMER_KEY, customer)) {
+            return customer;
+        }
+        return row.text(CUSTOMER_KEY);
+    }
+
+    // 진행 중인 거래 하나를 모으다가 고객이 바뀌면 처리한다.
+    private class BasketCollector {
+
+        private final Consumer<Receipt> receiptSink;
+        private final List<Order> orders;
+        private final Set<String> productNames;
+        private String customer;
+        private boolean rejected;
+        private int receiptCount;
+        private int rejectedCount;
+
+        BasketCollector(final Consumer<Receipt> receiptSink) {
+            this.receiptSink = receiptSink;
+            this.orders = new ArrayList<>();
+            this.productNames = new HashSet<>();
+        }
+
+        String getCustomer() {
+            return customer;
+        }
+
+        void add(final String customer, final String productName, final int quantity) {
+            if (!customer.equals(this.customer)) {
+                flush();
+                this.customer = customer;
+            }
+            if (rejected) {
+                return;
+            }
+            // Orders 와 같은 기준으로 확인하되, 없는 상품이나 중복이 나오면 남은 행은 담지 않는다.
+            if (quantity <= 0 || inventory.getProductStock(productName) == null
+                    || !productNames.add(productName)) {
+                reject();
+                return;
+            }
+            orders.add(new Order(productName, quantity));
+        }
+
+        // 고객을 읽지 못한 행은 앞뒤 거래와 섞지 않고 그 행 하나를 거절된 거래로 센다.
+        void rejectRow(final String customer) {
+            if (customer == null) {
+                flush();
+                this.customer = null;
+                rejectedCount++;
+                return;
+            }
+            if (!customer.equals(this.customer)) {
+                flush();
+                this.customer = customer;
+            }
+            reject();
+        }
+
+        BatchSummary finish() {
+            flush();
+            return new BatchSummary(receiptCount, rejectedCount);
+        }
+
+        private void flush() {
+            if (customer == null) {
+                return;
+            }
+            if (rejected) {
+                rejectedCount++;
+            } else {
+                process();
+            }
+            orders.clear();
+            productNames.clear();
+            rejected = false;
+        }
+
+        private void process() {
+            Receipt receipt;
+            try {
+                receipt = batchOrderEngine.processOrders(new Orders(orders));
+            } catch (IllegalArgumentException exception) {
+                // 상품이 없거나 재고가 부족한 거래는 되돌려지고 건너뛴다.
+                rejectedCount++;
+                return;
+            }
+            receiptCount++;
+            receiptSink.accept(receipt);
+        }
+
+        private void reject() {
+            rejected = true;
+            orders.clear();
+            productNames.clear();
+        }
+    }
+}
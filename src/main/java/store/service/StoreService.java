@@ -1,52 +1,184 @@
 package store.service;
 
 import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.Duration;
 import java.time.LocalDate;
 import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockHold;
+import store.domain.promotion.ActivePromotions;
 import store.domain.promotion.MembershipCalculator;
 import store.domain.promotion.PromotionProcessor;
 import store.domain.promotion.PromotionResult;
+import store.exception.CustomIllegalArgumentException;
+import store.exception.ErrorMessage;
+import store.metrics.CheckoutMetrics;
+import store.metrics.CheckoutStage;
+import store.metrics.OrderProcessedEvent;
+import store.util.TimerWheel;
 
-public class StoreService {
+public class StoreService implements AutoCloseable {
+
+    private static final Duration HOLD_TICK = Duration.ofMillis(100);
+    private static final int HOLD_WHEEL_SIZE = 512;
+    private static final Duration HOLD_TTL = Duration.ofMinutes(5);
+
+    // 처리기는 상태가 없으므로 모든 상품이 함께 쓴다.
+    private final PromotionProcessor promotionProcessor = new PromotionProcessor();
+    private final MembershipCalculator membershipCalculator = new MembershipCalculator();
+    private final TimerWheel timerWheel;
+    private final Duration holdTtl;
+    private final CheckoutMetrics checkoutMetrics = CheckoutMetrics.global();
+
+    public StoreService() {
+        this(new TimerWheel(HOLD_TICK, HOLD_WHEEL_SIZE), HOLD_TTL);
+    }
+
+    public StoreService(final TimerWheel timerWheel, final Duration holdTtl) {
+        this.timerWheel = timerWheel;
+        this.holdTtl = holdTtl;
+    }
 
     public PromotionResult processOrder(final int purchaseQuantity, final ProductStock productStock) {
-        ProcessingContext processingContext = createProcessingContext(productStock);
+        try {
+            return evaluateOrder(purchaseQuantity, productStock);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
+    }
+
+    private PromotionResult evaluateOrder(final int purchaseQuantity, final ProductStock productStock) {
+        OrderProcessedEvent event = new OrderProcessedEvent();
+        event.begin();
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.PROCESS_ORDER);
         LocalDate now = DateTimes.now().toLocalDate();
-        return processingContext.getPromotionProcessor().processOrder(purchaseQuantity, now);
+        PromotionResult promotionResult = promotionProcessor.processOrder(productStock, purchaseQuantity, now);
+        recordOrder(promotionResult, startNanos);
+        event.complete(productStock.getProductName(), purchaseQuantity, promotionResult);
+        return promotionResult;
     }
 
-    public PromotionResult processRegularPayment(final ProductStock productStock,
-                                                 final PromotionResult promotionResult) {
-        ProcessingContext processingContext = createProcessingContext(productStock);
-        return processingContext.getPromotionProcessor().processWithRegularPayment(promotionResult);
+    // 거래 시작 시 한 번 조회한 진행 중 프로모션으로 처리하여 주문마다 날짜를 비교하지 않는다.
+    public PromotionResult processOrder(final int purchaseQuantity, final ProductStock productStock,
+                                        final ActivePromotions activePromotions) {
+        try {
+            return evaluateOrder(purchaseQuantity, productStock, activePromotions);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
+    }
+
+    private PromotionResult evaluateOrder(final int purchaseQuantity, final ProductStock productStock,
+                                          final ActivePromotions activePromotions) {
+        OrderProcessedEvent event = new OrderProcessedEvent();
+        event.begin();
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.PROCESS_ORDER);
+        boolean validPromotion = activePromotions.isActive(productStock.getProduct());
+        PromotionResult promotionResult = promotionProcessor.processOrder(productStock, purchaseQuantity,
+                validPromotion);
+        recordOrder(promotionResult, startNanos);
+        event.complete(productStock.getProductName(), purchaseQuantity, promotionResult);
+        return promotionResult;
+    }
+
+    // 재고 부족으로 거절된 주문을 상품별로 센다.
+    private void recordOutOfStock(final ProductStock productStock, final CustomIllegalArgumentException exception) {
+        if (exception.getErrorMessage() == ErrorMessage.OUT_OF_STOCK) {
+            checkoutMetrics.recordOutOfStock(productStock.getProductName());
+        }
+    }
+
+    // 구매 유형은 안내 질문에 응답하기 전, 주문 시점의 유형으로 센다.
+    private void recordOrder(final PromotionResult promotionResult, final long startNanos) {
+        checkoutMetrics.stopTimer(CheckoutStage.PROCESS_ORDER, startNanos);
+        checkoutMetrics.recordPurchase(promotionResult.purchaseType());
+    }
+
+    // 안내 질문이 필요한 결과라면 응답을 받을 때까지 안내한 수량을 잡아 둔다. 잡아 둔 수량은 만료 시 돌려놓는다.
+    public StockHold processOrderWithHold(final int purchaseQuantity, final ProductStock productStock,
+                                          final ActivePromotions activePromotions) {
+        productStock.lock();
+        try {
+            PromotionResult promotionResult = evaluateOrder(purchaseQuantity, productStock, activePromotions);
+            return holdForAnswer(productStock, promotionResult);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        } finally {
+            productStock.unlock();
+        }
+    }
+
+    private StockHold holdForAnswer(final ProductStock productStock, final PromotionResult promotionResult) {
+        // 정가 결제 안내 : Y일 경우 프로모션 재고 전부와 부족한 수량만큼의 정가 재고가 필요
+        if (promotionResult.askRegularPayment()) {
+            int promotionQuantity = productStock.getPromotionQuantity();
+            int regularQuantity = Math.min(promotionResult.totalQuantity() - promotionQuantity,
+                    productStock.getRegularQuantity());
+            return scheduleRelease(StockHold.hold(productStock, promotionResult, promotionQuantity, regularQuantity));
+        }
+        // 추가 혜택 안내 : Y일 경우 증정 수량까지 프로모션 재고가 필요
+        if (promotionResult.askBenefit()) {
+            int promotionQuantity = promotionResult.totalQuantity() + promotionResult.additionalBenefitQuantity();
+            return scheduleRelease(StockHold.hold(productStock, promotionResult, promotionQuantity, 0));
+        }
+        return StockHold.none(productStock, promotionResult);
     }
 
-    public ProcessingContext createProcessingContext(final ProductStock productStock) {
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
-        return new ProcessingContext(productStock, promotionProcessor);
+    private StockHold scheduleRelease(final StockHold stockHold) {
+        stockHold.expireWith(timerWheel.schedule(stockHold::release, holdTtl));
+        return stockHold;
+    }
+
+    public PromotionResult processRegularPayment(final ProductStock productStock,
+                                                 final PromotionResult promotionResult) {
+        try {
+            return promotionProcessor.processWithRegularPayment(productStock, promotionResult);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
     }
 
     public PromotionResult processOnlyPromotionPayment(final ProductStock productStock,
                                                        final PromotionResult promotionResult) {
-        ProcessingContext processingContext = createProcessingContext(productStock);
-        return processingContext.getPromotionProcessor().processOnlyPromotionPayment(promotionResult);
+        try {
+            return promotionProcessor.processOnlyPromotionPayment(productStock, promotionResult);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
     }
 
     public PromotionResult processBenefitOption(final ProductStock productStock,
                                                 final PromotionResult promotionResult) {
-        ProcessingContext processingContext = createProcessingContext(productStock);
-        return processingContext.getPromotionProcessor().processBenefitOption(promotionResult);
+        try {
+            return promotionProcessor.processBenefitOption(productStock, promotionResult);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
     }
 
     public PromotionResult processNoBenefitOption(final ProductStock productStock,
                                                   final PromotionResult promotionResult) {
-        ProcessingContext processingContext = createProcessingContext(productStock);
-        return processingContext.getPromotionProcessor().processNoBenefitOption(promotionResult);
+        try {
+            return promotionProcessor.processNoBenefitOption(productStock, promotionResult);
+        } catch (CustomIllegalArgumentException exception) {
+            recordOutOfStock(productStock, exception);
+            throw exception;
+        }
     }
 
     public int processMembership(final int productPrice, final PromotionResult promotionResult) {
-        MembershipCalculator membershipCalculator = new MembershipCalculator();
         return membershipCalculator.calculate(productPrice, promotionResult);
     }
 
+    // 잡아 둔 수량의 만료를 처리하는 타이머 스레드를 멈춘다.
+    @Override
+    public void close() {
+        timerWheel.close();
+    }
+
 }
@@ -0,0 +1,89 @@
+package store.util;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionRegistry;
+
+public class CatalogParser {
+
+    private static final long PARALLEL_THRESHOLD = 32L * 1024 * 1024;
+
+    private CatalogParser() {
+    }
+
+    /**
+     * promotions.md 를 읽어 프로모션 색인으로 변환
+     */
+    public static PromotionRegistry readPromotions() {
+        List<Promotion> promotions = new ArrayList<>();
+        StoreFileReader.readPromotions(row -> promotions.add(toPromotion(row)));
+        return PromotionRegistry.from(promotions);
+    }
+
+    /**
+     * products.md 를 읽어 행마다 바로 재고에 추가. 큰 파일은 여러 구간으로 나누어 병렬로 적재한다.
+     */
+    public static Inventory readInventory(final PromotionRegistry promotionRegistry) {
+        Path inventoryFile = StoreFileReader.inventoryFile();
+        if (isLargeFile(inventoryFile)) {
+            return ParallelCatalogLoader.readInventory(inventoryFile, promotionRegistry, ForkJoinPool.commonPool());
+        }
+        Inventory inventory = new Inventory();
+        StoreFileReader.readInventories(row -> addProductStock(inventory, row, promotionRegistry));
+        return inventory;
+    }
+
+    private static boolean isLargeFile(final Path path) {
+        try {
+            return Files.size(path) >= PARALLEL_THRESHOLD;
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    /**
+     * promotions.md 의 행(name,buy,get,start_date,end_date)을 프로모션 색인으로 변환
+     */
+    public static PromotionRegistry parsePromotions(final List<String> lines) {
+        CsvRow row = new CsvRow();
+        List<Promotion> promotions = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            row.reset(line);
+            promotions.add(toPromotion(row));
+        }
+        return PromotionRegistry.from(promotions);
+    }
+
+    /**
+     * products.md 의 행(name,price,quantity,promotion)을 재고로 변환
+     */
+    public static Inventory parseInventory(final List<String> lines, final PromotionRegistry promotionRegistry) {
+        CsvRow row = new CsvRow();
+        Inventory inventory = new Inventory();
+        for (String line : lines) {
+            row.reset(line);
+            addProductStock(inventory, row, promotionRegistry);
+        }
+        return inventory;
+    }
+
+    public static Promotion toPromotion(final CsvRow row) {
+        return new Promotion(row.text(0), row.integer(1), row.integer(2), row.date(3), row.date(4));
+    }
+
+    public static void addProductStock(final Inventory inventory, final CsvRow row,
+                                       final PromotionRegistry promotionRegistry) {
+        Promotion promotion = promotionRegistry.find(row.text(3));
+        Product product = new Product(row.text(0), row.integer(1), promotion);
+        inventory.addProductStock(product, row.integer(2));
+    }
+}
@@ -0,0 +1,161 @@
+package store.util;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import store.exception.CustomIllegalArgumentException;
+
+/**
+ * 쉼표로 구분된 한 행을 재사용하는 문자 버퍼 위에서 필드 경계만 기록하여 읽는다.
+ * 행마다 split 이나 리스트를 만들지 않는다.
+ */
+public class CsvRow {
+
+    private static final char DELIMITER = ',';
+    private static final int INITIAL_CAPACITY = 128;
+    private static final int INITIAL_FIELDS = 8;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+    private int[] starts = new int[INITIAL_FIELDS];
+    private int[] ends = new int[INITIAL_FIELDS];
+    private int fieldCount;
+
+    public void reset(final String line) {
+        ensureCapacity(line.length());
+        line.getChars(0, line.length(), chars, 0);
+        length = line.length();
+        split();
+    }
+
+    void reset(final CharBuffer buffer) {
+        ensureCapacity(buffer.remaining());
+        length = buffer.remaining();
+        buffer.get(chars, 0, length);
+        split();
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public boolean isBlank() {
+        return fieldCount == 1 && starts[0] == ends[0];
+    }
+
+    public String text(final int index) {
+        checkIndex(index);
+        return new String(chars, starts[index], ends[index] - starts[index]);
+    }
+
+    public boolean matches(final int index, final String value) {
+        checkIndex(index);
+        int start = starts[index];
+        if (ends[index] - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (chars[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int integer(final int index) {
+        checkIndex(index);
+        return parseInteger(starts[index], ends[index]);
+    }
+
+    // yyyy-MM-dd
+    public LocalDate date(final int index) {
+        checkIndex(index);
+        int start = starts[index];
+        if (ends[index] - start != 10 || chars[start + 4] != '-' || chars[start + 7] != '-') {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        int year = parseInteger(start, start + 4);
+        int month = parseInteger(start + 5, start + 7);
+        int day = parseInteger(start + 8, start + 10);
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (RuntimeException exception) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+    }
+
+    private int parseInteger(final int start, final int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (chars[index] == '-' || chars[index] == '+')) {
+            negative = chars[index] == '-';
+            index++;
+        }
+        if (index == end) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = chars[index] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+            }
+        }
+        return toInteger(negative ? -value : value);
+    }
+
+    private int toInteger(final long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        return (int) value;
+    }
+
+    // 구분자 사이의 앞뒤 공백을 제외한 구간을 필드로 기록
+    private void split() {
+        fieldCount = 0;
+        int fieldStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || chars[i] == DELIMITER) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+    }
+
+    private void addField(final int start, final int end) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+        }
+        int stripStart = start;
+        int stripEnd = end;
+        while (stripStart < stripEnd && Character.isWhitespace(chars[stripStart])) {
+            stripStart++;
+        }
+        while (stripEnd > stripStart && Character.isWhitespace(chars[stripEnd - 1])) {
+            stripEnd--;
+        }
+        starts[fieldCount] = stripStart;
+        ends[fieldCount] = stripEnd;
+        fieldCount++;
+    }
+
+    private void checkIndex(final int index) {
+        if (index >= fieldCount) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (chars.length < capacity) {
+            chars = new char[Math.max(capacity, chars.length * 2)];
+        }
+    }
+}
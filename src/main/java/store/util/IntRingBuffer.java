@@ -0,0 +1,66 @@
+package store.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드가 꺼내는 크기 고정의 int 링 버퍼. 락 없이 동작한다.
+ * 칸마다 순번을 두어, 넣는 쪽은 빈 칸의 순번을 확인한 뒤 꼬리를 CAS 로 차지하고, 값을 쓴 다음 순번을 올려 꺼내는 쪽에 알린다.
+ * 가득 차면 기다리지 않고 false 를 반환한다.
+ */
+public class IntRingBuffer {
+
+    public static final int EMPTY = -1;
+
+    private final int mask;
+    private final AtomicIntegerArray values;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    // 꺼내는 스레드만 읽고 쓴다.
+    private long head;
+
+    // 용량은 2의 거듭제곱으로 올린다.
+    public IntRingBuffer(final int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = size - 1;
+        this.values = new AtomicIntegerArray(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.tail = new AtomicLong();
+    }
+
+    public boolean offer(final int value) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference < 0) {
+                return false;
+            }
+            if (difference == 0 && tail.compareAndSet(position, position + 1)) {
+                values.setPlain(index, value);
+                sequences.setRelease(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    // 꺼낼 값이 없으면 EMPTY
+    public int poll() {
+        int index = (int) head & mask;
+        if (sequences.getAcquire(index) != head + 1) {
+            return EMPTY;
+        }
+        int value = values.getPlain(index);
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+        return value;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
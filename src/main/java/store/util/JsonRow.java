@@ -0,0 +1,248 @@
+package store.util;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import store.exception.CustomIllegalArgumentException;
+
+/**
+ * 한 줄에 하나씩 있는 중첩 없는 JSON 객체를 재사용하는 문자 버퍼 위에서 읽는다. (NDJSON)
+ * 문자열의 이스케이프는 같은 버퍼 안에서 풀고, 키와 값의 경계만 기록한다.
+ */
+public class JsonRow {
+
+    private static final int INITIAL_CAPACITY = 128;
+    private static final int INITIAL_FIELDS = 8;
+    private static final int HEX_RADIX = 16;
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+    private static final int NOT_FOUND = -1;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+    private int[] keyStarts = new int[INITIAL_FIELDS];
+    private int[] keyEnds = new int[INITIAL_FIELDS];
+    private int[] valueStarts = new int[INITIAL_FIELDS];
+    private int[] valueEnds = new int[INITIAL_FIELDS];
+    private int fieldCount;
+    private boolean blank;
+    // readString 이 읽은 문자열의 끝 (이스케이프를 푼 뒤의 위치)
+    private int stringEnd;
+
+    public void reset(final CharBuffer buffer) {
+        ensureCapacity(buffer.remaining());
+        length = buffer.remaining();
+        buffer.get(chars, 0, length);
+        parse();
+    }
+
+    public void reset(final String line) {
+        ensureCapacity(line.length());
+        line.getChars(0, line.length(), chars, 0);
+        length = line.length();
+        parse();
+    }
+
+    public boolean isBlank() {
+        return blank;
+    }
+
+    public String text(final String key) {
+        int field = fieldOf(key);
+        return new String(chars, valueStarts[field], valueEnds[field] - valueStarts[field]);
+    }
+
+    public boolean matches(final String key, final String value) {
+        int field = fieldOf(key);
+        return equalsRange(valueStarts[field], valueEnds[field], value);
+    }
+
+    public int integer(final String key) {
+        int field = fieldOf(key);
+        int index = valueStarts[field];
+        int end = valueEnds[field];
+        boolean negative = index < end && chars[index] == '-';
+        if (negative) {
+            index++;
+        }
+        if (index == end) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = chars[index] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private int fieldOf(final String key) {
+        for (int i = 0; i < fieldCount; i++) {
+            if (equalsRange(keyStarts[i], keyEnds[i], key)) {
+                return i;
+            }
+        }
+        throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+    }
+
+    private boolean equalsRange(final int start, final int end, final String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (chars[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // { "키" : 값 , ... } 형식만 허용한다. 값은 문자열이거나 따옴표 없는 숫자, true, false, null 이다.
+    private void parse() {
+        fieldCount = 0;
+        int position = skipWhitespace(0);
+        blank = position == length;
+        if (blank) {
+            return;
+        }
+        position = skipWhitespace(expect(position, '{'));
+        if (position < length && chars[position] == '}') {
+            expectEnd(position + 1);
+            return;
+        }
+        while (true) {
+            int keyStart = position + 1;
+            position = skipWhitespace(readString(position));
+            int keyEnd = stringEnd;
+            position = skipWhitespace(expect(position, ':'));
+            int valueStart = position;
+            if (position < length && chars[position] == '"') {
+                valueStart = position + 1;
+                position = readString(position);
+            } else {
+                position = readLiteral(position);
+            }
+            addField(keyStart, keyEnd, valueStart, stringEnd);
+            position = skipWhitespace(position);
+            if (position < length && chars[position] == '}') {
+                expectEnd(position + 1);
+                return;
+            }
+            position = skipWhitespace(expect(position, ','));
+        }
+    }
+
+    // 여는 따옴표 위치에서 시작하여 닫는 따옴표 다음 위치를 반환
+    private int readString(final int position) {
+        int read = expect(position, '"');
+        int write = read;
+        while (read < length) {
+            char ch = chars[read++];
+            if (ch == '"') {
+                stringEnd = write;
+                return read;
+            }
+            if (ch == '\\') {
+                if (read == length) {
+                    break;
+                }
+                char escaped = chars[read++];
+                if (escaped == 'u') {
+                    ch = readUnicode(read);
+                    read += UNICODE_ESCAPE_LENGTH;
+                } else {
+                    ch = unescape(escaped);
+                }
+            }
+            chars[write++] = ch;
+        }
+        throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+    }
+
+    private char readUnicode(final int position) {
+        if (position + UNICODE_ESCAPE_LENGTH > length) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        int value = 0;
+        for (int i = position; i < position + UNICODE_ESCAPE_LENGTH; i++) {
+            int digit = Character.digit(chars[i], HEX_RADIX);
+            if (digit == NOT_FOUND) {
+                throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+            }
+            value = value * HEX_RADIX + digit;
+        }
+        return (char) value;
+    }
+
+    private char unescape(final char escaped) {
+        return switch (escaped) {
+            case '"', '\\', '/' -> escaped;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            default -> throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        };
+    }
+
+    private int readLiteral(final int position) {
+        int index = position;
+        while (index < length && chars[index] != ',' && chars[index] != '}'
+                && !Character.isWhitespace(chars[index])) {
+            index++;
+        }
+        if (index == position) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        stringEnd = index;
+        return index;
+    }
+
+    private int expect(final int position, final char expected) {
+        if (position >= length || chars[position] != expected) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+        return position + 1;
+    }
+
+    private void expectEnd(final int position) {
+        if (skipWhitespace(position) != length) {
+            throw new CustomIllegalArgumentException(INVALID_FILE_FORMAT);
+        }
+    }
+
+    private int skipWhitespace(final int position) {
+        int index = position;
+        while (index < length && Character.isWhitespace(chars[index])) {
+            index++;
+        }
+        return index;
+    }
+
+    private void addField(final int keyStart, final int keyEnd, final int valueStart, final int valueEnd) {
+        if (fieldCount == keyStarts.length) {
+            keyStarts = Arrays.copyOf(keyStarts, fieldCount * 2);
+            keyEnds = Arrays.copyOf(keyEnds, fieldCount * 2);
+            valueStarts = Arrays.copyOf(valueStarts, fieldCount * 2);
+            valueEnds = Arrays.copyOf(valueEnds, fieldCount * 2);
+        }
+        keyStarts[fieldCount] = keyStart;
+        keyEnds[fieldCount] = keyEnd;
+        valueStarts[fieldCount] = valueStart;
+        valueEnds[fieldCount] = valueEnd;
+        fieldCount++;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (chars.length < capacity) {
+            chars = new char[Math.max(capacity, chars.length * 2)];
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package store.util;
+
+import static store.exception.ErrorMessage.INVALID_ORDER_FORMAT;
+import static store.exception.ErrorMessage.INVALID_PRODUCT;
+
+import java.util.ArrayList;
+import java.util.List;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.exception.CustomIllegalArgumentException;
+
+/**
+ * [상품명-수량],[상품명-수량] 형식의 주문 한 줄을 앞에서부터 한 번만 읽어 검증과 추출을 함께 한다.
+ * 상품명은 한글 음절과 영문자, 수량은 0으로 시작하지 않는 양의 정수이며, 각 주문 앞뒤의 공백은 무시한다.
+ */
+public class OrderParser {
+
+    private static final char ORDER_START = '[';
+    private static final char ORDER_END = ']';
+    private static final char QUANTITY_SEPARATOR = '-';
+    private static final char ORDER_DELIMITER = ',';
+    private static final char KOREAN_START = '가';
+    private static final char KOREAN_END = '힣';
+
+    private OrderParser() {
+    }
+
+    public static Orders parse(final String line) {
+        return parse(line, null);
+    }
+
+    /**
+     * 상품명을 재고 사전에서 바로 찾아, 주문의 상품명으로 재고에 등록된 이름을 사용한다.
+     * 형식 오류와 중복 주문을 먼저 확인한 뒤 없는 상품을 알린다.
+     */
+    public static Orders parse(final String line, final Inventory inventory) {
+        List<Order> orders = new ArrayList<>();
+        boolean unknownProduct = false;
+        int position = 0;
+        int length = line.length();
+        while (true) {
+            position = expect(line, skipWhitespace(line, position, length), ORDER_START);
+            int nameStart = position;
+            position = skipName(line, position, length);
+            int nameEnd = position;
+            position = expect(line, position, QUANTITY_SEPARATOR);
+            int quantityStart = position;
+            position = skipDigits(line, position, length);
+            int quantity = parseQuantity(line, quantityStart, position);
+            position = skipWhitespace(line, expect(line, position, ORDER_END), length);
+            String name = resolveName(line, nameStart, nameEnd, inventory);
+            unknownProduct |= name == null;
+            if (name == null) {
+                name = line.substring(nameStart, nameEnd);
+            }
+            orders.add(new Order(name, quantity));
+            if (position == length) {
+                break;
+            }
+            position = expect(line, position, ORDER_DELIMITER);
+        }
+        Orders result = new Orders(orders);
+        if (unknownProduct) {
+            throw new CustomIllegalArgumentException(INVALID_PRODUCT);
+        }
+        return result;
+    }
+
+    private static String resolveName(final String line, final int start, final int end, final Inventory inventory) {
+        if (inventory == null) {
+            return line.substring(start, end);
+        }
+        ProductStock productStock = inventory.findProductStock(line, start, end);
+        if (productStock == null) {
+            return null;
+        }
+        return productStock.getProductName();
+    }
+
+    private static int expect(final String line, final int position, final char expected) {
+        if (position >= line.length() || line.charAt(position) != expected) {
+            throw new CustomIllegalArgumentException(INVALID_ORDER_FORMAT);
+        }
+        return position + 1;
+    }
+
+    private static int skipWhitespace(final String line, final int position, final int length) {
+        int index = position;
+        while (index < length && Character.isWhitespace(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipName(final String line, final int position, final int length) {
+        int index = position;
+        while (index < length && isNameCharacter(line.charAt(index))) {
+            index++;
+        }
+        if (index == position) {
+            throw new CustomIllegalArgumentException(INVALID_ORDER_FORMAT);
+        }
+        return index;
+    }
+
+    private static boolean isNameCharacter(final char ch) {
+        return (ch >= KOREAN_START && ch <= KOREAN_END) || (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static int skipDigits(final String line, final int position, final int length) {
+        int index = position;
+        while (index < length && isDigit(line.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    // 잘라낸 문자열 없이 자리마다 누적하며, int 범위를 넘으면 형식 오류로 처리한다.
+    private static int parseQuantity(final String line, final int start, final int end) {
+        if (start == end || line.charAt(start) == '0') {
+            throw new CustomIllegalArgumentException(INVALID_ORDER_FORMAT);
+        }
+        int quantity = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line.charAt(i) - '0';
+            if (quantity > (Integer.MAX_VALUE - digit) / 10) {
+                throw new CustomIllegalArgumentException(INVALID_ORDER_FORMAT);
+            }
+            quantity = quantity * 10 + digit;
+        }
+        return quantity;
+    }
+}
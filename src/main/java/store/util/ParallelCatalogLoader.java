@@ -0,0 +1,100 @@
+package store.util;
+
+import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionRegistry;
+
+/**
+ * 상품 파일을 행 경계에 맞춘 구간으로 나누어 ForkJoinPool 에서 적재하고, 구간별 재고를 파일 순서대로 합친다.
+ */
+public class ParallelCatalogLoader {
+
+    private static final long SHARD_SIZE = 8L * 1024 * 1024;
+
+    private ParallelCatalogLoader() {
+    }
+
+    public static Inventory readInventory(final Path path, final PromotionRegistry promotionRegistry,
+                                          final ForkJoinPool pool) {
+        return readInventory(path, promotionRegistry, pool, SHARD_SIZE);
+    }
+
+    static Inventory readInventory(final Path path, final PromotionRegistry promotionRegistry,
+                                   final ForkJoinPool pool, final long shardSize) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ShardTask task = new ShardTask(channel, promotionRegistry, shardSize, 0, channel.size());
+            return merge(pool.invoke(task));
+        } catch (IOException | UncheckedIOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    // 구간별 재고를 한 번씩만 합치도록 마지막에 순서대로 병합
+    private static Inventory merge(final List<Inventory> shards) {
+        Inventory inventory = shards.get(0);
+        for (int i = 1; i < shards.size(); i++) {
+            inventory.merge(shards.get(i));
+        }
+        return inventory;
+    }
+
+    private static class ShardTask extends RecursiveTask<List<Inventory>> {
+
+        private final FileChannel channel;
+        private final PromotionRegistry promotionRegistry;
+        private final long shardSize;
+        private final long start;
+        private final long end;
+
+        ShardTask(final FileChannel channel, final PromotionRegistry promotionRegistry, final long shardSize,
+                  final long start, final long end) {
+            this.channel = channel;
+            this.promotionRegistry = promotionRegistry;
+            this.shardSize = shardSize;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<Inventory> compute() {
+            try {
+                return split();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private List<Inventory> split() throws IOException {
+            if (end - start <= shardSize) {
+                return load();
+            }
+            long middle = StoreFileReader.alignToLineStart(channel, start + (end - start) / 2);
+            if (middle <= start || middle >= end) {
+                return load();
+            }
+            ShardTask left = new ShardTask(channel, promotionRegistry, shardSize, start, middle);
+            ShardTask right = new ShardTask(channel, promotionRegistry, shardSize, middle, end);
+            right.fork();
+            List<Inventory> shards = new ArrayList<>(left.compute());
+            shards.addAll(right.join());
+            return shards;
+        }
+
+        private List<Inventory> load() throws IOException {
+            Inventory inventory = new Inventory();
+            StoreFileReader.readRows(channel, start, end,
+                    row -> CatalogParser.addProductStock(inventory, row, promotionRegistry));
+            return List.of(inventory);
+        }
+    }
+}
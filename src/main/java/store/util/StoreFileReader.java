@@ -2,56 +2,186 @@ package store.util;
 
 import static store.exception.ErrorMessage.INVALID_FILE_FORMAT;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
 
+/**
+ * 파일을 일정 크기의 구간으로 나누어 메모리 매핑하고, 행 단위로 UTF-8 디코딩하여 전달한다.
+ * 파일 크기와 관계없이 사용하는 힙 크기가 일정하다.
+ */
 public class StoreFileReader {
 
-    private static final String INVENTORY_FILENAME = "src/main/resources/products.md";
-    private static final String PROMOTION_FILENAME = "src/main/resources/promotions.md";
+    private static final Path INVENTORY_FILE = Path.of("src/main/resources/products.md");
+    private static final Path PROMOTION_FILE = Path.of("src/main/resources/promotions.md");
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final long SCAN_SIZE = 64L * 1024;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
 
     private StoreFileReader() {
     }
 
-    public static List<String> readInventories() {
-        return readFileFromSource(INVENTORY_FILENAME);
+    public static Path inventoryFile() {
+        return INVENTORY_FILE;
     }
 
-    public static List<String> readPromotions() {
-        return readFileFromSource(PROMOTION_FILENAME);
+    public static Path promotionFile() {
+        return PROMOTION_FILE;
     }
 
-    private static List<String> readFileFromSource(String fileName) {
-        try {
-            return readFile(fileName);
+    public static void readInventories(final Consumer<CsvRow> rowConsumer) {
+        readRows(INVENTORY_FILE, rowConsumer);
+    }
+
+    public static void readPromotions(final Consumer<CsvRow> rowConsumer) {
+        readRows(PROMOTION_FILE, rowConsumer);
+    }
+
+    /**
+     * 헤더와 빈 행을 제외한 모든 행을 같은 CsvRow 객체에 담아 순서대로 전달
+     */
+    public static void readRows(final Path path, final Consumer<CsvRow> rowConsumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readRows(channel, 0, channel.size(), rowConsumer);
         } catch (IOException exception) {
             throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
         }
     }
 
-    private static List<String> readFile(String fileName) throws IOException {
-        BufferedReader br = new BufferedReader(new FileReader(fileName));
-        List<String> inputs = new ArrayList<>();
-        makeInput(br, inputs);
-        br.close();
-        return inputs;
+    /**
+     * [start, end) 구간의 행들을 전달. 두 위치 모두 행의 시작이어야 하며, 파일 처음부터 읽을 때만 헤더를 건너뛴다.
+     */
+    public static void readRows(final FileChannel channel, final long start, final long end,
+                                final Consumer<CsvRow> rowConsumer) throws IOException {
+        CsvRow row = new CsvRow();
+        new LineReader(line -> {
+            row.reset(line);
+            if (!row.isBlank()) {
+                rowConsumer.accept(row);
+            }
+        }, start == 0).read(channel, start, end);
     }
 
-    private static void makeInput(final BufferedReader br, final List<String> inputs) throws IOException {
-        while (true) {
-            String input = br.readLine();
-            if (isTerminated(input)) {
-                break;
+    /**
+     * 헤더 없이 모든 행을 전달. 전달하는 문자 버퍼는 다음 행에서 재사용하므로 전달받은 쪽에서 보관하지 않는다.
+     */
+    public static void readLines(final Path path, final Consumer<CharBuffer> lineConsumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            new LineReader(lineConsumer, false).read(channel, 0, channel.size());
+        } catch (IOException exception) {
+            throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+        }
+    }
+
+    /**
+     * position 이 행의 중간이라면 다음 행의 시작 위치로 옮긴다.
+     */
+    public static long alignToLineStart(final FileChannel channel, final long position) throws IOException {
+        long size = channel.size();
+        if (position <= 0 || position >= size) {
+            return Math.max(0, Math.min(position, size));
+        }
+        long scanPosition = position - 1;
+        while (scanPosition < size) {
+            long scanSize = Math.min(SCAN_SIZE, size - scanPosition);
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, scanPosition, scanSize);
+            for (int i = 0; i < scanSize; i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return scanPosition + i + 1;
+                }
             }
-            inputs.add(input);
+            scanPosition += scanSize;
         }
+        return size;
     }
 
-    private static boolean isTerminated(final String input) {
-        return input == null;
+    private static class LineReader {
+
+        private final Consumer<CharBuffer> lineConsumer;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        private CharBuffer chars = CharBuffer.allocate(256);
+        private boolean skipHeader;
+
+        LineReader(final Consumer<CharBuffer> lineConsumer, final boolean skipHeader) {
+            this.lineConsumer = lineConsumer;
+            this.skipHeader = skipHeader;
+        }
+
+        void read(final FileChannel channel, final long start, final long end) throws IOException {
+            long position = start;
+            while (position < end) {
+                long windowSize = Math.min(WINDOW_SIZE, end - position);
+                MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, windowSize);
+                boolean lastWindow = position + windowSize == end;
+                position += readLines(window, lastWindow);
+            }
+        }
+
+        // 구간 안의 완전한 행들을 처리하고 처리한 바이트 수를 반환
+        // 구간 끝에서 잘린 행은 다음 구간에서 다시 매핑한다.
+        private int readLines(final ByteBuffer window, final boolean lastWindow) throws IOException {
+            int limit = window.limit();
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (window.get(i) == LINE_FEED) {
+                    readLine(window, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            if (lastWindow && lineStart < limit) {
+                readLine(window, lineStart, limit);
+                return limit;
+            }
+            if (lineStart == 0) {
+                throw new IllegalStateException(INVALID_FILE_FORMAT.getMessage());
+            }
+            return lineStart;
+        }
+
+        private void readLine(final ByteBuffer window, final int start, final int end) throws IOException {
+            int lineEnd = end;
+            if (lineEnd > start && window.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            if (skipHeader) {
+                skipHeader = false;
+                return;
+            }
+            decode(window.limit(lineEnd).position(start));
+            window.clear();
+            lineConsumer.accept(chars);
+        }
+
+        private void decode(final ByteBuffer line) throws IOException {
+            ensureCapacity(line.remaining());
+            decoder.reset();
+            chars.clear();
+            CoderResult result = decoder.decode(line, chars, true);
+            if (result.isError()) {
+                result.throwException();
+            }
+            decoder.flush(chars);
+            chars.flip();
+        }
+
+        // UTF-8 은 문자 하나가 최소 1바이트이므로 바이트 수만큼의 문자 버퍼면 충분하다.
+        private void ensureCapacity(final int byteLength) {
+            if (chars.capacity() < byteLength) {
+                chars = CharBuffer.allocate(Math.max(byteLength, chars.capacity() * 2));
+            }
+        }
     }
 }
-
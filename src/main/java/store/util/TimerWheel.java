@@ -0,0 +1,139 @@
+package store.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시 타이머 휠. 예약한 작업을 만료 틱의 칸에 넣어 두고, 백그라운드 스레드가 틱마다 한 칸만 확인한다.
+ * 예약과 취소는 O(1)이며, 만료 시각은 틱 단위로 맞춰진다.
+ */
+public class TimerWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> scheduled;
+    private final long startNanos;
+    private Thread worker;
+    private volatile boolean closed;
+
+    public TimerWheel(final Duration tick, final int wheelSize) {
+        this.tickNanos = tick.toNanos();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.startNanos = System.nanoTime();
+    }
+
+    // 첫 예약 시 작업 스레드를 시작한다.
+    public Timeout schedule(final Runnable task, final Duration delay) {
+        startIfNeeded();
+        long ticks = Math.max(1, (delay.toNanos() + tickNanos - 1) / tickNanos);
+        Timeout timeout = new Timeout(task, currentTick() + ticks);
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    private synchronized void startIfNeeded() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, "timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startNanos) / tickNanos;
+    }
+
+    private void run() {
+        long tick = currentTick();
+        while (!closed) {
+            waitUntil(tick + 1);
+            long now = currentTick();
+            transferScheduled(tick + 1);
+            // 작업이 늦어져 건너뛴 틱의 칸도 모두 확인
+            for (; tick < now; tick++) {
+                expire(tick + 1);
+            }
+        }
+    }
+
+    private void waitUntil(final long tick) {
+        long remaining = startNanos + tick * tickNanos - System.nanoTime();
+        while (remaining > 0 && !closed) {
+            LockSupport.parkNanos(remaining);
+            remaining = startNanos + tick * tickNanos - System.nanoTime();
+        }
+    }
+
+    // 이미 지나간 틱으로 예약된 작업은 다음에 확인할 칸에 넣는다.
+    private void transferScheduled(final long nextTick) {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                bucketOf(Math.max(timeout.deadlineTick, nextTick)).add(timeout);
+            }
+        }
+    }
+
+    private void expire(final long tick) {
+        Iterator<Timeout> iterator = bucketOf(tick).iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.deadlineTick <= tick) {
+                iterator.remove();
+                timeout.expire();
+            }
+        }
+    }
+
+    private List<Timeout> bucketOf(final long tick) {
+        return buckets.get((int) (tick % buckets.size()));
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    public static class Timeout {
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+
+        private Timeout(final Runnable task, final long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void expire() {
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                // 만료 작업의 실패가 휠 전체를 멈추지 않도록 무시한다.
+            }
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package store.view;
 
-import camp.nextstep.edu.missionutils.Console;
-import java.util.List;
-import store.util.StringParser;
+import store.view.io.ConsoleInputReader;
+import store.view.io.InputReader;
 
 public class InputView {
-    public List<String> readOrder() {
-        return StringParser.parseByDelimiter(readLine(), ",");
+
+    private final InputReader inputReader;
+
+    public InputView() {
+        this(new ConsoleInputReader());
+    }
+
+    // 서버 모드에서는 세션의 소켓 채널에서 한 줄씩 읽는다.
+    public InputView(final InputReader inputReader) {
+        this.inputReader = inputReader;
+    }
+
+    // 주문 한 줄은 OrderParser가 나누지 않고 한 번에 읽는다.
+    public String readOrder() {
+        return readLine();
     }
 
     private String readLine() {
-        return Console.readLine();
+        return inputReader.readLine();
     }
 
     public String readRegularPayment() {
@@ -0,0 +1,84 @@
+package store.view;
+
+import static store.domain.product.stock.QuantityEnum.OUT_OF_STOCK;
+import static store.domain.product.stock.StockStatus.NOT_EXIST;
+import static store.view.ResultFormatter.appendGrouped;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+
+/**
+ * 재고 목록을 상품별로 그려 두고, 재고 버전이 바뀐 상품만 다시 그린다.
+ * 서버 모드에서는 모든 세션이 하나의 보드를 공유하므로 매 접속마다 전체 목록을 형식화하지 않는다.
+ */
+public class InventoryBoard {
+
+    private static final String LINE = System.lineSeparator();
+    private static final String ROW_PREFIX = "- ";
+    private static final String PRICE_UNIT = "원 ";
+    private static final String QUANTITY_UNIT = "개";
+
+    private volatile Rows rows;
+
+    public void render(final Inventory inventory, final StringBuilder builder) {
+        List<ProductStock> productStocks = inventory.getProductStocks();
+        AtomicReferenceArray<Row> cache = rowsOf(inventory, productStocks.size());
+        for (int i = 0; i < productStocks.size(); i++) {
+            ProductStock productStock = productStocks.get(i);
+            // 버전을 먼저 읽어, 그리는 도중 바뀐 수량은 다음 출력에서 다시 그리도록 한다.
+            int version = productStock.getVersion();
+            Row row = cache.get(i);
+            if (row == null || row.version() != version) {
+                row = new Row(version, renderRow(productStock));
+                cache.set(i, row);
+            }
+            builder.append(row.text());
+        }
+    }
+
+    // 다른 재고가 들어오거나 상품이 늘어나면 처음부터 다시 그린다.
+    private AtomicReferenceArray<Row> rowsOf(final Inventory inventory, final int size) {
+        Rows current = rows;
+        if (current == null || current.inventory() != inventory || current.rows().length() < size) {
+            current = new Rows(inventory, new AtomicReferenceArray<>(size));
+            rows = current;
+        }
+        return current.rows();
+    }
+
+    private String renderRow(final ProductStock productStock) {
+        StringBuilder builder = new StringBuilder();
+        int promotionQuantity = productStock.getPromotionQuantity();
+        if (promotionQuantity != NOT_EXIST.getValue()) {
+            appendProduct(builder, productStock);
+            appendQuantity(builder, promotionQuantity);
+            builder.append(' ').append(productStock.getPromotion().getName()).append(LINE);
+        }
+        appendProduct(builder, productStock);
+        appendQuantity(builder, productStock.getRegularQuantity());
+        builder.append(LINE);
+        return builder.toString();
+    }
+
+    private void appendProduct(final StringBuilder builder, final ProductStock productStock) {
+        builder.append(ROW_PREFIX).append(productStock.getProductName()).append(' ');
+        appendGrouped(builder, productStock.getProductPrice());
+        builder.append(PRICE_UNIT);
+    }
+
+    private void appendQuantity(final StringBuilder builder, final int quantity) {
+        if (quantity == 0) {
+            builder.append(OUT_OF_STOCK.getName());
+            return;
+        }
+        builder.append(quantity).append(QUANTITY_UNIT);
+    }
+
+    private record Rows(Inventory inventory, AtomicReferenceArray<Row> rows) {
+    }
+
+    private record Row(int version, String text) {
+    }
+}
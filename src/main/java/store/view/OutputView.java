@@ -1,17 +1,13 @@
 package store.view;
 
-import static store.domain.product.stock.StockStatus.NOT_EXIST;
-import static store.view.ResultFormatter.formatKorean;
-
-import java.util.Map.Entry;
-import store.domain.product.Product;
+import java.util.Formatter;
 import store.domain.product.stock.Inventory;
-import store.domain.product.stock.ProductStock;
-import store.domain.product.stock.QuantityEnum;
-import store.domain.promotion.Promotion;
 import store.domain.receipt.Receipt;
-import store.domain.receipt.Receipt.GiftResult;
-import store.domain.receipt.Receipt.PurchaseResult;
+import store.metrics.CheckoutMetrics;
+import store.metrics.CheckoutStage;
+import store.service.BatchSummary;
+import store.view.io.OutputWriter;
+import store.view.io.PrintStreamOutputWriter;
 
 public class OutputView {
 
@@ -21,95 +17,95 @@ public class OutputView {
     private static final String REQUEST_REGULAR_PAYMENT = "현재 %s %d개는 프로모션 할인이 적용되지 않습니다. 그래도 구매하시겠습니까? (Y/N)";
     private static final String REQUEST_BENEFIT = "현재 %s은(는) 1개를 무료로 더 받을 수 있습니다. 추가하시겠습니까? (Y/N)";
     private static final String REQUEST_MEMBERSHIP = "멤버십 할인을 받으시겠습니까? (Y/N)";
-    private static final String PROMOTION_FORMAT = "- %s %,d원 ";
-    private static final String TITLE = "==============W 편의점================";
-    private static final String PURCHASE_TITLE_FORMAT = "상품명\t\t\t\t수량\t\t금액";
-    private static final String PURCHASE_FORMAT = "\t\t\t%d\t\t%,d";
-    private static final String GIFT_TITLE = "=============증\t\t정===============";
-    private static final String GIFT_FORMAT = "%s\t\t\t\t\t%d";
-    private static final String TOTAL_TILE = "====================================";
-    private static final String TOTAL_PURCHASE_AMOUNT_FORMAT = "총구매액\t\t\t\t%d\t\t%,d";
-    private static final String PROMOTION_DISCOUNT_FORMAT = "행사할인\t\t\t\t\t\t-%,d";
-    private static final String MEMBERSHIP_DISCOUNT_FORMAT = "멤버십할인\t\t\t\t\t\t-%,d";
-    private static final String MONEY_TO_PAY_DISCOUNT_FORMAT = "내실돈\t\t\t\t\t\t %,d";
-
-    private void showPurchaseResult(final Receipt receipt) {
-        showln(LINE + TITLE);
-        showln(PURCHASE_TITLE_FORMAT);
-        for (PurchaseResult result : receipt.getPurchaseResults()) {
-            showln(format(formatKorean(result.productName(), 12) + PURCHASE_FORMAT, result.quantity(), result.price()));
-        }
+    private static final String BATCH_SUMMARY = "처리한 거래 %d건, 처리하지 못한 거래 %d건";
+
+    private final OutputWriter outputWriter;
+    // 한 번의 출력(안내 문구, 재고 목록, 영수증)을 모아 두는 버퍼. 출력마다 비우고 재사용한다.
+    private final StringBuilder buffer;
+    private final Formatter formatter;
+    private final ReceiptRenderer receiptRenderer;
+    private final InventoryBoard inventoryBoard;
+    private final CheckoutMetrics checkoutMetrics = CheckoutMetrics.global();
+
+    public OutputView() {
+        this(new PrintStreamOutputWriter(System.out));
+    }
+
+    // 서버 모드에서는 세션의 소켓 채널로 보낸다.
+    public OutputView(final OutputWriter outputWriter) {
+        this(outputWriter, new InventoryBoard());
     }
 
-    private void showGiftResult(final Receipt receipt) {
-        showln(GIFT_TITLE);
-        for (GiftResult result : receipt.getGiftResults()) {
-            showln(format(GIFT_FORMAT, result.productName(), result.quantity()));
-        }
+    // 여러 세션이 같은 재고를 보여줄 때는 그려 둔 목록을 공유한다.
+    public OutputView(final OutputWriter outputWriter, final InventoryBoard inventoryBoard) {
+        this.outputWriter = outputWriter;
+        this.buffer = new StringBuilder(1024);
+        this.formatter = new Formatter(buffer);
+        this.receiptRenderer = new ReceiptRenderer();
+        this.inventoryBoard = inventoryBoard;
     }
 
     public void requestMembership() {
         showln(LINE + REQUEST_MEMBERSHIP);
+        flush();
     }
 
     public void showWelcome() {
         showln(WELCOME + LINE);
+        flush();
     }
 
     public void requestOrder() {
         showln(LINE + REQUEST_PRODUCT);
+        flush();
     }
 
     public void requestRegularPayment(final String name, final int quantity) {
-        showln(format(REQUEST_REGULAR_PAYMENT, name, quantity));
+        formatln(REQUEST_REGULAR_PAYMENT, name, quantity);
+        flush();
     }
 
+    // 바뀐 상품만 다시 그려 둔 재고 목록을 출력
     public void showInventory(final Inventory inventory) {
-        for (Entry<String, ProductStock> entry : inventory.getInventory().entrySet()) {
-            ProductStock productStock = entry.getValue();
-            Product product = productStock.getProduct();
-            Promotion promotion = product.getPromotion();
-            String name = entry.getKey();
-            int price = product.getPrice();
-            int promotionQuantity = productStock.getPromotionQuantity();
-            int regularQuantity = productStock.getRegularQuantity();
-            if (promotionQuantity != NOT_EXIST.getValue()) {
-                String quantityName = QuantityEnum.findByStock(promotionQuantity);
-                showln(String.format(PROMOTION_FORMAT, name, price) + quantityName + " " + promotion.getName());
-            }
-            String quantityName = QuantityEnum.findByStock(regularQuantity);
-            showln(String.format(PROMOTION_FORMAT, name, price) + quantityName);
-        }
+        inventoryBoard.render(inventory, buffer);
+        flush();
     }
 
     public void showException(final RuntimeException e) {
-        System.out.println(e.getMessage());
+        showln(e.getMessage());
+        flush();
     }
 
     public void requestBenefit(final String name) {
-        showln(format(REQUEST_BENEFIT, name));
+        formatln(REQUEST_BENEFIT, name);
+        flush();
     }
 
+    // 영수증 전체를 모아 한 번에 출력
     public void showReceipt(final Receipt receipt) {
-        showPurchaseResult(receipt);
-        showGiftResult(receipt);
-        showTotalAmountResult(receipt);
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.RECEIPT_RENDER);
+        receiptRenderer.render(receipt, buffer);
+        flush();
+        checkoutMetrics.stopTimer(CheckoutStage.RECEIPT_RENDER, startNanos);
     }
 
-    private void showTotalAmountResult(final Receipt receipt) {
-        showln(TOTAL_TILE);
-        showln(format(TOTAL_PURCHASE_AMOUNT_FORMAT, receipt.getTotalPurchaseQuantity(),
-                receipt.getTotalPurchaseAmount()));
-        showln(format(PROMOTION_DISCOUNT_FORMAT, receipt.getTotalGiftDiscountAmount()));
-        showln(format(MEMBERSHIP_DISCOUNT_FORMAT, receipt.getTotalMembershipDiscountAmount()));
-        showln(format(MONEY_TO_PAY_DISCOUNT_FORMAT, receipt.getTotalPayAmount()));
+    public void showBatchSummary(final BatchSummary batchSummary) {
+        formatln(LINE + BATCH_SUMMARY, batchSummary.receiptCount(), batchSummary.rejectedCount());
+        flush();
     }
 
-    private String format(String format, Object... args) {
-        return String.format(format, args);
+    // 중간 문자열 없이 버퍼에 바로 형식화
+    private void formatln(String format, Object... args) {
+        formatter.format(format, args);
+        buffer.append(LINE);
     }
 
     private void showln(String message) {
-        System.out.println(message);
+        buffer.append(message).append(LINE);
+    }
+
+    private void flush() {
+        outputWriter.write(buffer);
+        buffer.setLength(0);
     }
 }
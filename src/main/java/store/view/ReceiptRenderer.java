@@ -0,0 +1,68 @@
+package store.view;
+
+import static store.view.ResultFormatter.appendGrouped;
+import static store.view.ResultFormatter.appendKorean;
+
+import store.domain.receipt.Receipt;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+import store.metrics.ReceiptRenderedEvent;
+
+/**
+ * 영수증을 String.format 없이 버퍼에 바로 쓴다. 출력 결과는 형식 문자열을 사용할 때와 같다.
+ */
+public class ReceiptRenderer {
+
+    private static final String LINE = System.lineSeparator();
+    private static final int NAME_WIDTH = 12;
+    private static final String TITLE = "==============W 편의점================";
+    private static final String PURCHASE_TITLE = "상품명\t\t\t\t수량\t\t금액";
+    private static final String GIFT_TITLE = "=============증\t\t정===============";
+    private static final String TOTAL_TITLE = "====================================";
+    private static final String TOTAL_PURCHASE_AMOUNT = "총구매액\t\t\t\t";
+    private static final String PROMOTION_DISCOUNT = "행사할인\t\t\t\t\t\t-";
+    private static final String MEMBERSHIP_DISCOUNT = "멤버십할인\t\t\t\t\t\t-";
+    private static final String MONEY_TO_PAY = "내실돈\t\t\t\t\t\t ";
+
+    public void render(final Receipt receipt, final StringBuilder builder) {
+        ReceiptRenderedEvent event = new ReceiptRenderedEvent();
+        event.begin();
+        int start = builder.length();
+        renderPurchaseResults(receipt, builder);
+        renderGiftResults(receipt, builder);
+        renderTotalAmount(receipt, builder);
+        event.complete(receipt.getPurchaseResults().size(), receipt.getGiftResults().size(),
+                receipt.getTotalPayAmount(), builder.length() - start);
+    }
+
+    private void renderPurchaseResults(final Receipt receipt, final StringBuilder builder) {
+        builder.append(LINE).append(TITLE).append(LINE);
+        builder.append(PURCHASE_TITLE).append(LINE);
+        for (PurchaseResult result : receipt.getPurchaseResults()) {
+            appendKorean(builder, result.productName(), NAME_WIDTH);
+            builder.append("\t\t\t").append(result.quantity()).append("\t\t");
+            appendGrouped(builder, result.price());
+            builder.append(LINE);
+        }
+    }
+
+    private void renderGiftResults(final Receipt receipt, final StringBuilder builder) {
+        builder.append(GIFT_TITLE).append(LINE);
+        for (GiftResult result : receipt.getGiftResults()) {
+            builder.append(result.productName()).append("\t\t\t\t\t").append(result.quantity()).append(LINE);
+        }
+    }
+
+    private void renderTotalAmount(final Receipt receipt, final StringBuilder builder) {
+        builder.append(TOTAL_TITLE).append(LINE);
+        builder.append(TOTAL_PURCHASE_AMOUNT).append(receipt.getTotalPurchaseQuantity()).append("\t\t");
+        appendGrouped(builder, receipt.getTotalPurchaseAmount());
+        builder.append(LINE).append(PROMOTION_DISCOUNT);
+        appendGrouped(builder, receipt.getTotalGiftDiscountAmount());
+        builder.append(LINE).append(MEMBERSHIP_DISCOUNT);
+        appendGrouped(builder, receipt.getTotalMembershipDiscountAmount());
+        builder.append(LINE).append(MONEY_TO_PAY);
+        appendGrouped(builder, receipt.getTotalPayAmount());
+        builder.append(LINE);
+    }
+}
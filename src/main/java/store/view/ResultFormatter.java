@@ -2,23 +2,72 @@ package store.view;
 
 public class ResultFormatter {
 
-    private static final String STRING_FORMAT = "%%-%ds";
+    private static final char GROUPING_SEPARATOR = ',';
+    private static final int GROUP_SIZE = 3;
+    // 한글 블록 범위 : 한글 자모, 한글 호환 자모, 한글 음절
+    private static final char HANGUL_JAMO_START = 'ᄀ';
+    private static final char HANGUL_JAMO_END = 'ᇿ';
+    private static final char HANGUL_COMPATIBILITY_JAMO_START = '㄰';
+    private static final char HANGUL_COMPATIBILITY_JAMO_END = '㆏';
+    private static final char HANGUL_SYLLABLES_START = '가';
+    private static final char HANGUL_SYLLABLES_END = '힯';
+    private static final String DIGITS = "0123456789";
 
     public static String formatKorean(String word, int formatSize) {
-        String formatter = String.format(STRING_FORMAT, formatSize - countKoreanCharacters(word));
-        return String.format(formatter, word);
+        StringBuilder builder = new StringBuilder(formatSize);
+        appendKorean(builder, word, formatSize);
+        return builder.toString();
+    }
+
+    // 한글은 두 칸을 차지하므로 한글 수만큼 덜 채워 열을 맞춘다. (%-Ns 와 같은 결과)
+    public static void appendKorean(final StringBuilder builder, final String word, final int formatSize) {
+        builder.append(word);
+        int padding = formatSize - countKoreanCharacters(word) - word.length();
+        for (int i = 0; i < padding; i++) {
+            builder.append(' ');
+        }
+    }
+
+    // %,d 와 같은 결과를 중간 문자열 없이 붙인다.
+    public static void appendGrouped(final StringBuilder builder, final long value) {
+        if (value < 0) {
+            builder.append('-');
+        }
+        int start = builder.length();
+        long remain = value;
+        int digits = 0;
+        do {
+            if (digits > 0 && digits % GROUP_SIZE == 0) {
+                builder.append(GROUPING_SEPARATOR);
+            }
+            builder.append(DIGITS.charAt((int) Math.abs(remain % 10)));
+            remain /= 10;
+            digits++;
+        } while (remain != 0);
+        reverse(builder, start, builder.length() - 1);
+    }
+
+    private static void reverse(final StringBuilder builder, final int from, final int to) {
+        for (int left = from, right = to; left < right; left++, right--) {
+            char temp = builder.charAt(left);
+            builder.setCharAt(left, builder.charAt(right));
+            builder.setCharAt(right, temp);
+        }
     }
 
     private static int countKoreanCharacters(String text) {
-        return (int) text.chars()
-                .filter(ResultFormatter::isKoreanCharacter)
-                .count();
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (isKoreanCharacter(text.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
     }
 
-    private static boolean isKoreanCharacter(int ch) {
-        Character.UnicodeBlock block = Character.UnicodeBlock.of(ch);
-        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
-                || block == Character.UnicodeBlock.HANGUL_JAMO
-                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO;
+    private static boolean isKoreanCharacter(char ch) {
+        return (ch >= HANGUL_SYLLABLES_START && ch <= HANGUL_SYLLABLES_END)
+                || (ch >= HANGUL_JAMO_START && ch <= HANGUL_JAMO_END)
+                || (ch >= HANGUL_COMPATIBILITY_JAMO_START && ch <= HANGUL_COMPATIBILITY_JAMO_END);
     }
 }
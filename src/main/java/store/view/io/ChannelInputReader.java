@@ -0,0 +1,81 @@
+package store.view.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * 서버 세션 입력. 채널에서 읽은 바이트에서 줄바꿈을 찾아 한 줄씩 UTF-8로 변환한다.
+ * UTF-8에서 '\n' 바이트는 다른 문자의 일부가 될 수 없으므로 바이트 단위로 줄을 나눠도 안전하다.
+ */
+public class ChannelInputReader implements InputReader {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+
+    public ChannelInputReader(final ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+        this.buffer.flip();
+    }
+
+    @Override
+    public String readLine() {
+        int scanned = buffer.position();
+        while (true) {
+            for (int i = scanned; i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') {
+                    return takeLine(i, i + 1);
+                }
+            }
+            // 당겨진 뒤에는 이미 확인한 바이트가 앞쪽에 위치한다.
+            scanned = buffer.remaining();
+            if (!fill()) {
+                return takeRemaining();
+            }
+        }
+    }
+
+    // 남은 바이트를 앞으로 당긴 뒤 채널에서 더 읽는다. 스트림이 끝났으면 false
+    private boolean fill() {
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        try {
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read >= 0;
+        } catch (IOException exception) {
+            buffer.flip();
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private String takeRemaining() {
+        if (!buffer.hasRemaining()) {
+            throw new NoSuchElementException();
+        }
+        return takeLine(buffer.limit(), buffer.limit());
+    }
+
+    private String takeLine(final int end, final int next) {
+        int start = buffer.position();
+        int lineEnd = end;
+        if (lineEnd > start && buffer.get(lineEnd - 1) == '\r') {
+            lineEnd--;
+        }
+        String line = new String(buffer.array(), buffer.arrayOffset() + start, lineEnd - start,
+                StandardCharsets.UTF_8);
+        buffer.position(next);
+        return line;
+    }
+}
@@ -0,0 +1,29 @@
+package store.view.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// 서버 세션 출력. 가상 스레드에서 소켓 채널에 직접 쓰므로 스트림 계층과 중간 flush가 없다.
+public class ChannelOutputWriter extends EncodingOutputWriter {
+
+    private final WritableByteChannel channel;
+
+    public ChannelOutputWriter(final WritableByteChannel channel) {
+        super(StandardCharsets.UTF_8);
+        this.channel = channel;
+    }
+
+    @Override
+    protected void writeBytes(final ByteBuffer bytes) {
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package store.view.io;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+
+/**
+ * 문자열을 재사용하는 바이트 버퍼에 인코딩한 뒤 한 번에 내보낸다. 버퍼가 부족하면 두 배로 늘린다.
+ */
+public abstract class EncodingOutputWriter implements OutputWriter {
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    private final CharsetEncoder encoder;
+    private ByteBuffer buffer;
+
+    protected EncodingOutputWriter(final Charset charset) {
+        // PrintStream과 같이 표현할 수 없는 문자는 대체 문자로 바꾼다.
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public void write(final CharSequence text) {
+        buffer.clear();
+        encode(CharBuffer.wrap(text));
+        buffer.flip();
+        writeBytes(buffer);
+    }
+
+    private void encode(final CharBuffer chars) {
+        encoder.reset();
+        CoderResult result = encoder.encode(chars, buffer, true);
+        while (result.isOverflow()) {
+            grow();
+            result = encoder.encode(chars, buffer, true);
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+
+    // 인코딩된 바이트 전체를 내보낸다.
+    protected abstract void writeBytes(ByteBuffer bytes);
+}
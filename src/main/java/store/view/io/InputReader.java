@@ -0,0 +1,7 @@
+package store.view.io;
+
+// 사용자 응답을 한 줄씩 읽는다. 더 읽을 줄이 없으면 NoSuchElementException
+public interface InputReader {
+
+    String readLine();
+}
@@ -0,0 +1,7 @@
+package store.view.io;
+
+// 화면에 보낼 내용을 한 번에 쓴다. 호출마다 한 번의 쓰기로 내보낸다.
+public interface OutputWriter {
+
+    void write(CharSequence text);
+}
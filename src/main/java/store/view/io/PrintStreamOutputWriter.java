@@ -0,0 +1,21 @@
+package store.view.io;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+
+// 콘솔 출력. 줄마다 println 하지 않고 모아 둔 내용을 한 번에 쓰고 flush 한다.
+public class PrintStreamOutputWriter extends EncodingOutputWriter {
+
+    private final PrintStream out;
+
+    public PrintStreamOutputWriter(final PrintStream out) {
+        super(out.charset());
+        this.out = out;
+    }
+
+    @Override
+    protected void writeBytes(final ByteBuffer bytes) {
+        out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        out.flush();
+    }
+}
@@ -0,0 +1,96 @@
+package store.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.order.OrderResult;
+import store.domain.promotion.PurchaseType;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+class SalesAnalyticsTest {
+
+    @Test
+    @DisplayName("상품별 매출, 프로모션별 증정 금액, 멤버십 할인, 구매 유형별 수량을 집계한다.")
+    void 판매_기록을_집계한다() {
+        // Given
+        SalesLog salesLog = new SalesLog();
+        salesLog.append(List.of(
+                orderResult("콜라", 3, 1000, 1, 0, PurchaseType.PROMOTIONAL_ONLY, "탄산2+1"),
+                orderResult("물", 2, 500, 0, 300, PurchaseType.REGULAR_ONLY, null)));
+        salesLog.append(List.of(
+                orderResult("콜라", 10, 1000, 3, 1200, PurchaseType.MIXED, "탄산2+1")));
+
+        // When
+        SalesReport salesReport = SalesAnalytics.aggregate(salesLog);
+
+        // Then
+        assertAll(
+                () -> assertThat(salesReport.receiptCount()).isEqualTo(2L),
+                () -> assertThat(salesReport.lineCount()).isEqualTo(3L),
+                () -> assertThat(salesReport.revenueByProduct().get("콜라")).isEqualTo(9000L),
+                () -> assertThat(salesReport.revenueByProduct().get("물")).isEqualTo(1000L),
+                () -> assertThat(salesReport.giftCostByPromotion().get("탄산2+1")).isEqualTo(4000L),
+                () -> assertThat(salesReport.membershipDiscountAmount()).isEqualTo(1500L),
+                () -> assertThat(salesReport.quantityByPurchaseType().get(PurchaseType.MIXED)).isEqualTo(10L),
+                () -> assertThat(salesReport.quantityByPurchaseType().get(PurchaseType.REGULAR_ONLY)).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 묶음에 걸친 기록을 병렬로 집계해도 합계가 같다.")
+    void 여러_묶음에_걸친_기록을_병렬로_집계해도_합계가_같다() {
+        // Given
+        SalesLog salesLog = new SalesLog();
+        int receiptCount = SalesLog.CHUNK_SIZE * 3 + 7;
+        for (int i = 0; i < receiptCount; i++) {
+            salesLog.append(List.of(orderResult("상품" + (i % 5), 2, 1000, 0, 100, PurchaseType.REGULAR_ONLY,
+                    null)));
+        }
+
+        // When
+        SalesReport salesReport = SalesAnalytics.aggregate(salesLog);
+
+        // Then
+        assertAll(
+                () -> assertThat(salesReport.revenueByProduct().values().stream().mapToLong(Long::longValue).sum())
+                        .isEqualTo(2000L * receiptCount),
+                () -> assertThat(salesReport.membershipDiscountAmount()).isEqualTo(100L * receiptCount),
+                () -> assertThat(salesReport.quantityByPurchaseType().get(PurchaseType.REGULAR_ONLY))
+                        .isEqualTo(2L * receiptCount)
+        );
+    }
+
+    @Test
+    @DisplayName("상품과 프로모션 종류가 많아도 번호가 넘치지 않고 모두 집계한다.")
+    void 상품과_프로모션_종류가_많아도_번호가_넘치지_않고_모두_집계한다() {
+        // Given
+        SalesLog salesLog = new SalesLog();
+        int kindCount = Short.MAX_VALUE + 10;
+        for (int i = 0; i < kindCount; i++) {
+            salesLog.append(List.of(orderResult("상품" + i, 3, 1000, 1, 0, PurchaseType.PROMOTIONAL_ONLY,
+                    "프로모션" + i)));
+        }
+
+        // When
+        SalesReport salesReport = SalesAnalytics.aggregate(salesLog);
+
+        // Then
+        assertAll(
+                () -> assertThat(salesReport.revenueByProduct()).hasSize(kindCount),
+                () -> assertThat(salesReport.giftCostByPromotion()).hasSize(kindCount),
+                () -> assertThat(salesReport.giftCostByPromotion().get("프로모션" + (kindCount - 1)))
+                        .isEqualTo(1000L)
+        );
+    }
+
+    private OrderResult orderResult(final String productName, final int quantity, final int price,
+                                    final int giftQuantity, final int membershipDiscount,
+                                    final PurchaseType purchaseType, final String promotionName) {
+        return new OrderResult(new PurchaseResult(productName, quantity, price),
+                new GiftResult(productName, giftQuantity, price), membershipDiscount, purchaseType, promotionName);
+    }
+}
@@ -0,0 +1,81 @@
+package store.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.order.OrderResult;
+import store.domain.promotion.PurchaseType;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+class SalesLedgerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 2, 1);
+
+    @Test
+    @DisplayName("날짜가 바뀌면 지난 영업일의 집계를 넘기고 새 기록을 시작한다.")
+    void 날짜가_바뀌면_지난_영업일의_집계를_넘기고_새_기록을_시작한다() {
+        // Given
+        List<LocalDate> reportedDates = new ArrayList<>();
+        List<SalesReport> salesReports = new ArrayList<>();
+        SalesLedger salesLedger = new SalesLedger((date, salesReport) -> {
+            reportedDates.add(date);
+            salesReports.add(salesReport);
+        });
+        salesLedger.append(List.of(orderResult(2)), DAY);
+        salesLedger.append(List.of(orderResult(3)), DAY);
+
+        // When
+        salesLedger.append(List.of(orderResult(5)), DAY.plusDays(1));
+
+        // Then
+        assertAll(
+                () -> assertThat(reportedDates).containsExactly(DAY),
+                () -> assertThat(salesReports.get(0).receiptCount()).isEqualTo(2L),
+                () -> assertThat(salesReports.get(0).revenueByProduct().get("물")).isEqualTo(2500L),
+                () -> assertThat(salesLedger.current().size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("닫으면 현재 영업일의 집계를 넘긴다.")
+    void 닫으면_현재_영업일의_집계를_넘긴다() {
+        // Given
+        List<SalesReport> salesReports = new ArrayList<>();
+        SalesLedger salesLedger = new SalesLedger((date, salesReport) -> salesReports.add(salesReport));
+        salesLedger.append(List.of(orderResult(4)), DAY);
+
+        // When
+        salesLedger.close();
+
+        // Then
+        assertAll(
+                () -> assertThat(salesReports).hasSize(1),
+                () -> assertThat(salesReports.get(0).revenueByProduct().get("물")).isEqualTo(2000L),
+                () -> assertThat(salesLedger.current()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 기록하지 않는다.")
+    void 꺼져_있으면_기록하지_않는다() {
+        // Given
+        SalesLedger salesLedger = SalesLedger.disabled();
+
+        // When
+        salesLedger.append(List.of(orderResult(1)), DAY);
+
+        // Then
+        assertThat(salesLedger.current()).isNull();
+    }
+
+    private OrderResult orderResult(final int quantity) {
+        return new OrderResult(new PurchaseResult("물", quantity, 500), new GiftResult("물", 0, 500), 0,
+                PurchaseType.REGULAR_ONLY, null);
+    }
+}
@@ -0,0 +1,113 @@
+package store.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionProcessor;
+import store.domain.promotion.PromotionResult;
+
+class InventoryConcurrencyTest {
+
+    private static final int LANES = 16;
+    private static final int ORDERS_PER_LANE = 2_000;
+    private static final int PROMOTION_QUANTITY = 3_000;
+    private static final int REGULAR_QUANTITY = 3_000;
+    private static final LocalDate NOW = LocalDate.of(2024, 12, 13);
+
+    @Test
+    @DisplayName("여러 계산대가 동시에 구매해도 재고가 음수가 되지 않는다.")
+    void 여러_계산대가_동시에_구매해도_재고가_음수가_되지_않는다() throws Exception {
+        // Given
+        Inventory inventory = makeInventory();
+        ProductStock productStock = inventory.getProductStock("콜라");
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
+        AtomicInteger soldQuantity = new AtomicInteger();
+        AtomicBoolean negativeObserved = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(LANES + 1);
+
+        // When
+        Future<?> watcher = executor.submit(() -> watchStock(productStock, negativeObserved, start));
+        List<Future<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < LANES; lane++) {
+            lanes.add(executor.submit(() -> checkout(promotionProcessor, productStock, soldQuantity, start)));
+        }
+        start.countDown();
+        for (Future<?> lane : lanes) {
+            lane.get();
+        }
+        watcher.cancel(true);
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // Then
+        int remainQuantity = productStock.getPromotionQuantity() + productStock.getRegularQuantity();
+        assertAll(
+                () -> assertThat(negativeObserved).isFalse(),
+                () -> assertThat(productStock.getPromotionQuantity()).isGreaterThanOrEqualTo(0),
+                () -> assertThat(productStock.getRegularQuantity()).isGreaterThanOrEqualTo(0),
+                () -> assertThat(remainQuantity + soldQuantity.get())
+                        .isEqualTo(PROMOTION_QUANTITY + REGULAR_QUANTITY)
+        );
+    }
+
+    private void checkout(final PromotionProcessor promotionProcessor, final ProductStock productStock,
+                          final AtomicInteger soldQuantity, final CountDownLatch start) {
+        await(start);
+        for (int i = 0; i < ORDERS_PER_LANE; i++) {
+            int purchaseQuantity = ThreadLocalRandom.current().nextInt(1, 10);
+            try {
+                PromotionResult result = promotionProcessor.processOrder(productStock, purchaseQuantity, NOW);
+                if (result.askRegularPayment()) {
+                    result = promotionProcessor.processWithRegularPayment(productStock, result);
+                } else if (result.askBenefit()) {
+                    result = promotionProcessor.processBenefitOption(productStock, result);
+                }
+                soldQuantity.addAndGet(result.totalQuantity());
+            } catch (IllegalArgumentException e) {
+                // 재고 부족으로 거절된 주문은 차감되지 않는다.
+            }
+        }
+    }
+
+    private void watchStock(final ProductStock productStock, final AtomicBoolean negativeObserved,
+                            final CountDownLatch start) {
+        await(start);
+        while (!Thread.currentThread().isInterrupted()) {
+            if (productStock.getPromotionQuantity() < 0 || productStock.getRegularQuantity() < 0) {
+                negativeObserved.set(true);
+            }
+        }
+    }
+
+    private void await(final CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Inventory makeInventory() {
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 20));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), PROMOTION_QUANTITY);
+        inventory.addProductStock(new Product("콜라", 1000, null), REGULAR_QUANTITY);
+        return inventory;
+    }
+}
@@ -0,0 +1,105 @@
+package store.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+
+class InventoryStoreTest {
+
+    @Test
+    @DisplayName("등록 순서대로 상품 번호를 부여하고 가격과 수량을 배열로 조회한다.")
+    void 등록_순서대로_상품_번호를_부여하고_가격과_수량을_배열로_조회한다() {
+        // Given
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 10);
+        inventory.addProductStock(new Product("콜라", 1000, null), 5);
+        inventory.addProductStock(new Product("물", 500, null), 3);
+
+        // When
+        InventoryStore store = InventoryStore.from(inventory);
+        int coke = store.idOf("콜라");
+        int water = store.idOf("물");
+
+        // Then
+        assertAll(
+                () -> assertThat(store.size()).isEqualTo(2),
+                () -> assertThat(coke).isEqualTo(0),
+                () -> assertThat(water).isEqualTo(1),
+                () -> assertThat(store.idOf("사이다")).isEqualTo(-1),
+                () -> assertThat(store.price(water)).isEqualTo(500),
+                () -> assertThat(store.promotion(coke)).isSameAs(promotion),
+                () -> assertThat(store.hasPromotion(water)).isFalse(),
+                () -> assertThat(store.promotionQuantity(water)).isEqualTo(0),
+                () -> assertThat(store.totalQuantity(coke)).isEqualTo(15)
+        );
+    }
+
+    @Test
+    @DisplayName("재고가 차감되면 저장소의 수량도 함께 바뀐다.")
+    void 재고가_차감되면_저장소의_수량도_함께_바뀐다() {
+        // Given
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), 3);
+        InventoryStore store = InventoryStore.from(inventory);
+
+        // When
+        inventory.getProductStock("물").subtractRegularQuantity(2);
+
+        // Then
+        int water = store.idOf("물");
+        assertAll(
+                () -> assertThat(store.regularQuantity(water)).isEqualTo(1),
+                () -> assertThat(store.hasStock(water, 2)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("잡아 둔 수량은 저장소의 수량에서도 빠진다.")
+    void 잡아_둔_수량은_저장소의_수량에서도_빠진다() {
+        // Given
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 6);
+        inventory.addProductStock(new Product("콜라", 1000, null), 3);
+        InventoryStore store = InventoryStore.from(inventory);
+
+        // When
+        inventory.getProductStock("콜라").hold(3, 2);
+
+        // Then
+        int coke = store.idOf("콜라");
+        assertAll(
+                () -> assertThat(store.promotionQuantity(coke)).isEqualTo(3),
+                () -> assertThat(store.regularQuantity(coke)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("저장소를 만든 뒤 등록된 상품도 판매할 수 있다.")
+    void 저장소를_만든_뒤_등록된_상품도_판매할_수_있다() {
+        // Given
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), 3);
+        InventoryStore store = InventoryStore.from(inventory);
+        for (int i = 0; i < StockColumns.CHUNK_SIZE; i++) {
+            inventory.addProductStock(new Product("상품" + i, 1000, null), 5);
+        }
+
+        // When
+        inventory.getProductStock("상품" + (StockColumns.CHUNK_SIZE - 1)).subtractRegularQuantity(2);
+
+        // Then
+        assertAll(
+                () -> assertThat(store.idOf("상품0")).isEqualTo(-1),
+                () -> assertThat(inventory.getProductStock("상품" + (StockColumns.CHUNK_SIZE - 1))
+                        .getRegularQuantity()).isEqualTo(3),
+                () -> assertThat(store.regularQuantity(store.idOf("물"))).isEqualTo(3)
+        );
+    }
+}
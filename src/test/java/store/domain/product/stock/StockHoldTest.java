@@ -0,0 +1,141 @@
+package store.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.promotion.PromotionResult;
+import store.exception.CustomIllegalArgumentException;
+import store.service.StoreService;
+import store.util.TimerWheel;
+
+class StockHoldTest {
+
+    private final Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.now().minusDays(1),
+            LocalDate.now().plusDays(1));
+    private final ActivePromotions activePromotions = new PromotionCalendar(List.of(promotion))
+            .activeOn(LocalDate.now());
+
+    @Test
+    @DisplayName("응답을 기다리는 동안 안내한 수량은 다른 계산대가 가져갈 수 없다.")
+    void 응답을_기다리는_동안_안내한_수량은_다른_계산대가_가져갈_수_없다() {
+        // Given
+        ProductStock productStock = makeProductStock();
+        StoreService storeService = new StoreService();
+
+        // When
+        StockHold stockHold = storeService.processOrderWithHold(10, productStock, activePromotions);
+
+        // Then
+        assertAll(
+                () -> assertThat(stockHold.getPromotionResult().askRegularPayment()).isTrue(),
+                () -> assertThat(productStock.getPromotionQuantity()).isEqualTo(0),
+                () -> assertThat(productStock.getRegularQuantity()).isEqualTo(0),
+                () -> assertThatThrownBy(() -> productStock.subtractRegularQuantity(1))
+                        .isInstanceOf(CustomIllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    @DisplayName("응답을 받으면 잡아 둔 수량으로 구매를 진행한다.")
+    void 응답을_받으면_잡아_둔_수량으로_구매를_진행한다() {
+        // Given
+        ProductStock productStock = makeProductStock();
+        StoreService storeService = new StoreService();
+        StockHold stockHold = storeService.processOrderWithHold(10, productStock, activePromotions);
+
+        // When
+        PromotionResult result = stockHold.redeem(() -> storeService.processRegularPayment(productStock,
+                stockHold.getPromotionResult()));
+        stockHold.release();
+
+        // Then
+        assertAll(
+                () -> assertThat(result.totalQuantity()).isEqualTo(10),
+                () -> assertThat(productStock.getPromotionQuantity()).isEqualTo(0),
+                () -> assertThat(productStock.getRegularQuantity()).isEqualTo(0),
+                () -> assertThat(productStock.getOwnedRegularQuantity()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 만료 시 잡아 둔 수량을 돌려놓는다.")
+    void 응답이_없으면_만료_시_잡아_둔_수량을_돌려놓는다() throws InterruptedException {
+        // Given
+        ProductStock productStock = makeProductStock();
+        try (TimerWheel timerWheel = new TimerWheel(Duration.ofMillis(5), 8)) {
+            StoreService storeService = new StoreService(timerWheel, Duration.ofMillis(30));
+
+            // When
+            StockHold stockHold = storeService.processOrderWithHold(10, productStock, activePromotions);
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!stockHold.isReleased() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Then
+            assertAll(
+                    () -> assertThat(stockHold.isReleased()).isTrue(),
+                    () -> assertThat(productStock.getPromotionQuantity()).isEqualTo(7),
+                    () -> assertThat(productStock.getRegularQuantity()).isEqualTo(3)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("만료 전에 돌려놓으면 만료 예약을 취소한다.")
+    void 만료_전에_돌려놓으면_만료_예약을_취소한다() {
+        // Given
+        ProductStock productStock = makeProductStock();
+        try (TimerWheel timerWheel = new TimerWheel(Duration.ofMillis(100), 8)) {
+            StockHold stockHold = StockHold.hold(productStock, null, 2, 1);
+            TimerWheel.Timeout timeout = timerWheel.schedule(stockHold::release, Duration.ofMinutes(5));
+            stockHold.expireWith(timeout);
+
+            // When
+            stockHold.redeem(() -> null);
+
+            // Then
+            assertAll(
+                    () -> assertThat(timeout.isCancelled()).isTrue(),
+                    () -> assertThat(productStock.getPromotionQuantity()).isEqualTo(7),
+                    () -> assertThat(productStock.getRegularQuantity()).isEqualTo(3)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("프로모션 재고가 없는 상품은 정가 재고만 잡아 둔다.")
+    void 프로모션_재고가_없는_상품은_정가_재고만_잡아_둔다() {
+        // Given
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), 5);
+        ProductStock productStock = inventory.getProductStock("물");
+
+        // When
+        StockHold stockHold = StockHold.hold(productStock, null, 0, 2);
+
+        // Then
+        assertAll(
+                () -> assertThat(productStock.getRegularQuantity()).isEqualTo(3),
+                () -> assertThat(productStock.getOwnedRegularQuantity()).isEqualTo(5),
+                () -> assertThat(stockHold.isReleased()).isFalse()
+        );
+    }
+
+    private ProductStock makeProductStock() {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 7);
+        inventory.addProductStock(new Product("콜라", 1000, null), 3);
+        return inventory.getProductStock("콜라");
+    }
+}
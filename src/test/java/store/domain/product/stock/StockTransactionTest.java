@@ -0,0 +1,121 @@
+package store.domain.product.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.exception.CustomIllegalArgumentException;
+
+class StockTransactionTest {
+
+    private static final int LANES = 8;
+    private static final int BASKETS_PER_LANE = 500;
+    private static final int INITIAL_QUANTITY = 2_000;
+
+    @Test
+    @DisplayName("거래 중 재고가 부족하면 앞서 차감한 재고도 되돌린다.")
+    void 거래_중_재고가_부족하면_앞서_차감한_재고도_되돌린다() {
+        // Given
+        Inventory inventory = makeInventory(3);
+        ProductStock water = inventory.getProductStock("물");
+        ProductStock juice = inventory.getProductStock("주스");
+
+        // When
+        assertThatThrownBy(() -> {
+            try (StockTransaction transaction = StockTransaction.begin(List.of(juice, water))) {
+                water.subtractRegularQuantity(2);
+                juice.subtractRegularQuantity(5);
+                transaction.commit();
+            }
+        }).isInstanceOf(CustomIllegalArgumentException.class);
+
+        // Then
+        assertAll(
+                () -> assertThat(water.getRegularQuantity()).isEqualTo(3),
+                () -> assertThat(juice.getRegularQuantity()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("커밋한 거래의 변경은 유지된다.")
+    void 커밋한_거래의_변경은_유지된다() {
+        // Given
+        Inventory inventory = makeInventory(3);
+        ProductStock water = inventory.getProductStock("물");
+
+        // When
+        try (StockTransaction transaction = StockTransaction.begin()) {
+            water.subtractRegularQuantity(2);
+            transaction.commit();
+        }
+
+        // Then
+        assertThat(water.getRegularQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 계산대가 서로 다른 순서로 장바구니를 처리해도 교착 없이 재고가 맞는다.")
+    void 여러_계산대가_서로_다른_순서로_장바구니를_처리해도_교착_없이_재고가_맞는다() throws Exception {
+        // Given
+        Inventory inventory = makeInventory(INITIAL_QUANTITY);
+        ProductStock water = inventory.getProductStock("물");
+        ProductStock juice = inventory.getProductStock("주스");
+        AtomicInteger soldBaskets = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(LANES);
+
+        // When
+        List<Future<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < LANES; lane++) {
+            List<ProductStock> basket = lane % 2 == 0 ? List.of(water, juice) : List.of(juice, water);
+            lanes.add(executor.submit(() -> checkout(basket, soldBaskets)));
+        }
+        for (Future<?> lane : lanes) {
+            lane.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        // Then
+        assertAll(
+                () -> assertThat(water.getRegularQuantity()).isEqualTo(INITIAL_QUANTITY - soldBaskets.get()),
+                () -> assertThat(juice.getRegularQuantity()).isEqualTo(INITIAL_QUANTITY - soldBaskets.get() * 2)
+        );
+    }
+
+    private void checkout(final List<ProductStock> basket, final AtomicInteger soldBaskets) {
+        for (int i = 0; i < BASKETS_PER_LANE; i++) {
+            try (StockTransaction transaction = StockTransaction.begin(basket)) {
+                for (ProductStock productStock : basket) {
+                    productStock.subtractRegularQuantity(quantityOf(productStock));
+                }
+                transaction.commit();
+                soldBaskets.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // 재고 부족으로 거절된 장바구니는 모두 되돌려진다.
+            }
+        }
+    }
+
+    private int quantityOf(final ProductStock productStock) {
+        if (productStock.getProductName().equals("주스")) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private Inventory makeInventory(final int quantity) {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), quantity);
+        inventory.addProductStock(new Product("주스", 1500, null), quantity);
+        return inventory;
+    }
+}
@@ -0,0 +1,71 @@
+package store.domain.promotion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+
+class PromotionCalendarTest {
+
+    private final Promotion december = makePromotion("탄산2+1", 12, 1, 12, 20);
+    private final Promotion christmas = makePromotion("반짝할인", 12, 20, 12, 25);
+    private final PromotionCalendar promotionCalendar = new PromotionCalendar(List.of(december, christmas));
+
+    @Test
+    @DisplayName("날짜에 진행 중인 프로모션을 찾는다.")
+    void 날짜에_진행_중인_프로모션을_찾는다() {
+        // When
+        ActivePromotions firstDay = promotionCalendar.activeOn(makeLocalDate(12, 1));
+        ActivePromotions overlapDay = promotionCalendar.activeOn(makeLocalDate(12, 20));
+        ActivePromotions lastDay = promotionCalendar.activeOn(makeLocalDate(12, 25));
+        ActivePromotions afterDay = promotionCalendar.activeOn(makeLocalDate(12, 26));
+
+        // Then
+        assertAll(
+                () -> assertThat(firstDay.isActive(december)).isTrue(),
+                () -> assertThat(firstDay.isActive(christmas)).isFalse(),
+                () -> assertThat(overlapDay.isActive(december)).isTrue(),
+                () -> assertThat(overlapDay.isActive(christmas)).isTrue(),
+                () -> assertThat(lastDay.isActive(december)).isFalse(),
+                () -> assertThat(lastDay.isActive(christmas)).isTrue(),
+                () -> assertThat(afterDay.isActive(christmas)).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 날짜에는 계산된 프로모션 목록을 재사용한다.")
+    void 같은_날짜에는_계산된_프로모션_목록을_재사용한다() {
+        // When
+        ActivePromotions first = promotionCalendar.activeOn(makeLocalDate(12, 10));
+        ActivePromotions second = promotionCalendar.activeOn(makeLocalDate(12, 10));
+
+        // Then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("프로모션이 없는 상품은 진행 중인 프로모션이 없다.")
+    void 프로모션이_없는_상품은_진행_중인_프로모션이_없다() {
+        // Given
+        ActivePromotions activePromotions = promotionCalendar.activeOn(makeLocalDate(12, 10));
+
+        // When & Then
+        assertAll(
+                () -> assertThat(activePromotions.isActive(new Product("물", 500, null))).isFalse(),
+                () -> assertThat(activePromotions.isActive(new Product("콜라", 1000, december))).isTrue()
+        );
+    }
+
+    private Promotion makePromotion(final String name, final int startMonth, final int startDay,
+                                    final int endMonth, final int endDay) {
+        return new Promotion(name, 2, 1, makeLocalDate(startMonth, startDay), makeLocalDate(endMonth, endDay));
+    }
+
+    private LocalDate makeLocalDate(final int month, final int day) {
+        return LocalDate.of(2024, month, day);
+    }
+}
@@ -18,11 +18,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 31);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(3, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 3, now);
 
         // Then
         assertAll(
@@ -39,11 +39,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(3, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 3, now);
 
         // Then
         assertAll(
@@ -59,11 +59,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(7);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(10, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 10, now);
 
         // Then
         assertAll(
@@ -82,11 +82,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(7);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(5, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 5, now);
 
         // Then
         assertAll(
@@ -105,11 +105,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(5);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(5, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 5, now);
 
         // Then
         assertAll(
@@ -128,11 +128,11 @@ class PromotionProcessorTest {
         Promotion promotion = makePromotion();
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(7);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(4, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 4, now);
 
         // Then
         assertAll(
@@ -152,11 +152,11 @@ class PromotionProcessorTest {
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(10);
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         LocalDate now = makeLocalDate(2024, 12, 13);
 
         // When
-        PromotionResult result = promotionProcessor.processOrder(4, now);
+        PromotionResult result = promotionProcessor.processOrder(productStock, 4, now);
 
         // Then
         assertAll(
@@ -178,11 +178,11 @@ class PromotionProcessorTest {
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(7);
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         PromotionResult inputResult = PromotionResult.makeMixedPurchaseResult(10, 2, 4, 0);
 
         // When
-        PromotionResult result = promotionProcessor.processWithRegularPayment(inputResult);
+        PromotionResult result = promotionProcessor.processWithRegularPayment(productStock, inputResult);
 
         // Then
         assertAll(
@@ -203,11 +203,11 @@ class PromotionProcessorTest {
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(7);
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         PromotionResult inputResult = PromotionResult.makeMixedPurchaseResult(10, 2, 4, 0);
 
         // When
-        PromotionResult result = promotionProcessor.processOnlyPromotionPayment(inputResult);
+        PromotionResult result = promotionProcessor.processOnlyPromotionPayment(productStock, inputResult);
 
         // Then
         assertAll(
@@ -229,11 +229,11 @@ class PromotionProcessorTest {
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(10);
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         PromotionResult inputResult = PromotionResult.makePromotionPurchaseResult(5, 1, 1);
 
         // When
-        PromotionResult result = promotionProcessor.processBenefitOption(inputResult);
+        PromotionResult result = promotionProcessor.processBenefitOption(productStock, inputResult);
 
         // Then
         assertAll(
@@ -254,11 +254,11 @@ class PromotionProcessorTest {
         ProductStock productStock = new ProductStock(makeProduct(promotion));
         productStock.addPromotionQuantity(10);
         productStock.addRegularQuantity(10);
-        PromotionProcessor promotionProcessor = new PromotionProcessor(productStock);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
         PromotionResult inputResult = PromotionResult.makePromotionPurchaseResult(5, 1, 1);
 
         // When
-        PromotionResult result = promotionProcessor.processNoBenefitOption(inputResult);
+        PromotionResult result = promotionProcessor.processNoBenefitOption(productStock, inputResult);
 
         // Then
         assertAll(
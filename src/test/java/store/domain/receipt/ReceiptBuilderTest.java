@@ -0,0 +1,62 @@
+package store.domain.receipt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+class ReceiptBuilderTest {
+
+    @Test
+    @DisplayName("int 범위를 넘는 합계도 정확하게 누적한다.")
+    void int_범위를_넘는_합계도_정확하게_누적한다() {
+        // Given
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder();
+
+        // When
+        Receipt receipt = receiptBuilder.addPurchase(new PurchaseResult("콜라", 1_000_000, 1000))
+                .addPurchase(new PurchaseResult("정식도시락", 1_000_000, 6400))
+                .addGift(new GiftResult("콜라", 300_000, 1000))
+                .addMembershipDiscount(8000)
+                .build();
+
+        // Then
+        assertAll(
+                () -> assertThat(receipt.getTotalPurchaseQuantity()).isEqualTo(2_000_000L),
+                () -> assertThat(receipt.getTotalPurchaseAmount()).isEqualTo(7_400_000_000L),
+                () -> assertThat(receipt.getTotalGiftDiscountAmount()).isEqualTo(300_000_000L),
+                () -> assertThat(receipt.getTotalPayAmount()).isEqualTo(7_099_992_000L)
+        );
+    }
+
+    @Test
+    @DisplayName("증정 수량이 없는 줄은 싣지 않는다.")
+    void 증정_수량이_없는_줄은_싣지_않는다() {
+        // When
+        Receipt receipt = new ReceiptBuilder()
+                .addPurchase(new PurchaseResult("물", 2, 500))
+                .addGift(new GiftResult("물", 0, 500))
+                .build();
+
+        // Then
+        assertAll(
+                () -> assertThat(receipt.getGiftResults()).isEmpty(),
+                () -> assertThat(receipt.getTotalGiftDiscountAmount()).isEqualTo(0L)
+        );
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘으면 예외가 발생한다.")
+    void long_범위를_넘으면_예외가_발생한다() {
+        // Given
+        ReceiptBuilder receiptBuilder = new ReceiptBuilder().addMembershipDiscount(Long.MAX_VALUE);
+
+        // When & Then
+        assertThatThrownBy(() -> receiptBuilder.addMembershipDiscount(1))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
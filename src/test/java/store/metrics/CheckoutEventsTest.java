@@ -0,0 +1,108 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.order.OrderResult;
+import store.domain.product.Product;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionProcessor;
+import store.domain.promotion.PromotionResult;
+import store.domain.receipt.Receipt;
+import store.exception.CustomIllegalArgumentException;
+import store.service.StoreService;
+import store.view.ReceiptRenderer;
+
+class CheckoutEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("주문 처리, 프로모션 판단, 재고 차감, 영수증 출력을 JFR 이벤트로 남긴다.")
+    void 주문_처리_프로모션_판단_재고_차감_영수증_출력을_JFR_이벤트로_남긴다() throws IOException {
+        // Given
+        LocalDate today = LocalDate.now();
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+        ProductStock productStock = new ProductStock(new Product("콜라", 1000, promotion));
+        productStock.addPromotionQuantity(10);
+        StoreService storeService = new StoreService();
+        Path file = directory.resolve("checkout.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(OrderProcessedEvent.class);
+            recording.enable(PromotionEvaluatedEvent.class);
+            recording.enable(StockChangedEvent.class);
+            recording.enable(ReceiptRenderedEvent.class);
+            recording.start();
+            PromotionResult promotionResult = storeService.processOrder(6, productStock);
+            Receipt receipt = Receipt.from(List.of(OrderResult.of(productStock, promotionResult, 0)));
+            new ReceiptRenderer().render(receipt, new StringBuilder());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent order = find(events, "store.OrderProcessed");
+        RecordedEvent stock = find(events, "store.StockChanged");
+        assertAll(
+                () -> assertThat(order.getString("productName")).isEqualTo("콜라"),
+                () -> assertThat(order.getInt("giftQuantity")).isEqualTo(2),
+                () -> assertThat(order.getString("purchaseType")).isEqualTo("PROMOTIONAL_ONLY"),
+                () -> assertThat(find(events, "store.PromotionEvaluated").getBoolean("promotionActive")).isTrue(),
+                () -> assertThat(find(events, "store.PromotionEvaluated").getString("outcome")).isEqualTo("OK"),
+                () -> assertThat(stock.getInt("promotionDelta")).isEqualTo(-6),
+                () -> assertThat(stock.getInt("promotionQuantity")).isEqualTo(4),
+                () -> assertThat(find(events, "store.ReceiptRendered").getInt("purchaseLines")).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("재고 부족으로 거절된 프로모션 판단도 결과와 함께 남긴다.")
+    void 재고_부족으로_거절된_프로모션_판단도_결과와_함께_남긴다() throws IOException {
+        // Given
+        ProductStock productStock = new ProductStock(new Product("물", 500, null));
+        productStock.addRegularQuantity(1);
+        PromotionProcessor promotionProcessor = new PromotionProcessor();
+        Path file = directory.resolve("rejected.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(PromotionEvaluatedEvent.class);
+            recording.start();
+            assertThatThrownBy(() -> promotionProcessor.processOrder(productStock, 3, false))
+                    .isInstanceOf(CustomIllegalArgumentException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        RecordedEvent evaluated = find(RecordingFile.readAllEvents(file), "store.PromotionEvaluated");
+        assertAll(
+                () -> assertThat(evaluated.getString("productName")).isEqualTo("물"),
+                () -> assertThat(evaluated.getString("outcome")).isEqualTo("OUT_OF_STOCK"),
+                () -> assertThat(evaluated.getString("purchaseType")).isNull()
+        );
+    }
+
+    private RecordedEvent find(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,57 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.promotion.PurchaseType;
+
+class CheckoutMetricsTest {
+
+    @Test
+    @DisplayName("구매 유형별, 상품별 재고 부족 횟수와 단계별 지연 시간을 기록하여 출력한다.")
+    void 구매_유형별_상품별_재고_부족_횟수와_단계별_지연_시간을_기록하여_출력한다() {
+        // Given
+        CheckoutMetrics checkoutMetrics = new CheckoutMetrics(true);
+
+        // When
+        checkoutMetrics.recordPurchase(PurchaseType.MIXED);
+        checkoutMetrics.recordPurchase(PurchaseType.MIXED);
+        checkoutMetrics.recordOutOfStock("콜라");
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.MEMBERSHIP_PROMPT);
+        checkoutMetrics.stopTimer(CheckoutStage.MEMBERSHIP_PROMPT, startNanos);
+        StringBuilder builder = new StringBuilder();
+        checkoutMetrics.writeTo(builder);
+
+        // Then
+        assertAll(
+                () -> assertThat(checkoutMetrics.getPurchaseCount(PurchaseType.MIXED)).isEqualTo(2),
+                () -> assertThat(checkoutMetrics.getOutOfStockCount("콜라")).isEqualTo(1),
+                () -> assertThat(checkoutMetrics.getLatency(CheckoutStage.MEMBERSHIP_PROMPT).getCount()).isEqualTo(1),
+                () -> assertThat(builder.toString()).contains("checkout_purchases_total{type=\"MIXED\"} 2",
+                        "checkout_out_of_stock_total{product=\"콜라\"} 1",
+                        "checkout_latency_nanos_count{stage=\"membership_prompt\"} 1")
+        );
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 아무것도 기록하지 않는다.")
+    void 꺼져_있으면_아무것도_기록하지_않는다() {
+        // Given
+        CheckoutMetrics checkoutMetrics = new CheckoutMetrics(false);
+
+        // When
+        checkoutMetrics.recordPurchase(PurchaseType.REGULAR_ONLY);
+        checkoutMetrics.recordOutOfStock("콜라");
+        long startNanos = checkoutMetrics.startTimer(CheckoutStage.MEMBERSHIP_PROMPT);
+        checkoutMetrics.stopTimer(CheckoutStage.MEMBERSHIP_PROMPT, startNanos);
+
+        // Then
+        assertAll(
+                () -> assertThat(checkoutMetrics.getPurchaseCount(PurchaseType.REGULAR_ONLY)).isEqualTo(0),
+                () -> assertThat(checkoutMetrics.getOutOfStockCount("콜라")).isEqualTo(0),
+                () -> assertThat(checkoutMetrics.getLatency(CheckoutStage.MEMBERSHIP_PROMPT).getCount()).isEqualTo(0)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package store.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("모든 값은 자신을 포함하는 칸에 들어가며 칸의 상대 오차는 1/16 이하이다.")
+    void 모든_값은_자신을_포함하는_칸에_들어가며_칸의_상대_오차는_16분의_1_이하이다() {
+        int outOfRange = 0;
+        for (long value = 0; value < 1_000_000; value += 7) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+            if (upperBound < value || upperBound - value > value / 16) {
+                outOfRange++;
+            }
+        }
+        assertThat(outOfRange).isEqualTo(0);
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE)))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("기록한 값으로 분위수와 최댓값을 구한다.")
+    void 기록한_값으로_분위수와_최댓값을_구한다() {
+        // Given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            latencyHistogram.record(i * 1000L);
+        }
+
+        // Then
+        assertAll(
+                () -> assertThat(latencyHistogram.getCount()).isEqualTo(1000),
+                () -> assertThat(latencyHistogram.getMax()).isEqualTo(1_000_000),
+                () -> assertThat(latencyHistogram.percentile(0.5)).isBetween(500_000L, 500_000L * 17 / 16),
+                () -> assertThat(latencyHistogram.percentile(0.99)).isBetween(990_000L, 1_000_000L),
+                () -> assertThat(latencyHistogram.percentile(1.0)).isEqualTo(1_000_000)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package store.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionRegistry;
+
+class InventorySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("판매 후 남은 재고를 스냅샷으로 저장하고 복원한다.")
+    void 판매_후_남은_재고를_스냅샷으로_저장하고_복원한다() {
+        // Given
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        PromotionRegistry promotionRegistry = PromotionRegistry.from(List.of(promotion));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 10);
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        inventory.getProductStock("콜라").subtractPromotionQuantity(4);
+        inventory.getProductStock("물").subtractRegularQuantity(10);
+        Path file = directory.resolve("inventory.snapshot");
+
+        // When
+        new InventorySnapshot(promotionRegistry, inventory).write(file);
+        InventorySnapshot snapshot = InventorySnapshot.read(file);
+
+        // Then
+        ProductStock coke = snapshot.getInventory().getProductStock("콜라");
+        ProductStock water = snapshot.getInventory().getProductStock("물");
+        assertAll(
+                () -> assertThat(snapshot.getPromotionRegistry().getPromotions()).hasSize(1),
+                () -> assertThat(coke.getPromotion().getStartDate()).isEqualTo(LocalDate.of(2024, 1, 1)),
+                () -> assertThat(coke.getPromotionQuantity()).isEqualTo(6),
+                () -> assertThat(coke.getRegularQuantity()).isEqualTo(10),
+                () -> assertThat(water.getPromotion()).isNull(),
+                () -> assertThat(water.doesNotExistPromotionQuantity()).isTrue(),
+                () -> assertThat(water.getRegularQuantity()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("스냅샷 형식이 아니면 복원하지 않는다.")
+    void 스냅샷_형식이_아니면_복원하지_않는다() throws IOException {
+        // Given
+        Path file = directory.resolve("inventory.snapshot");
+        Files.writeString(file, "name,price,quantity,promotion");
+
+        // When & Then
+        assertThatThrownBy(() -> InventorySnapshot.read(file))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,210 @@
+package store.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.product.stock.StockTransaction;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionRegistry;
+
+class StockJournalTest {
+
+    private static final int LANES = 8;
+    private static final int ORDERS_PER_LANE = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("확정된 판매 기록을 다시 적용하여 재고를 복원한다.")
+    void 확정된_판매_기록을_다시_적용하여_재고를_복원한다() {
+        // Given
+        Path file = directory.resolve("stock.journal");
+        Inventory inventory = makeInventory();
+        try (StockJournal journal = StockJournal.open(file)) {
+            inventory.addStockChangeListener(journal);
+            inventory.getProductStock("콜라").subtractPromotionQuantity(3);
+            inventory.getProductStock("물").subtractRegularQuantity(2);
+            journal.commit();
+        }
+
+        // When
+        Inventory restored = makeInventory();
+        int replayed;
+        try (StockJournal journal = StockJournal.open(file)) {
+            replayed = journal.replay(restored);
+        }
+
+        // Then
+        assertAll(
+                () -> assertThat(replayed).isEqualTo(2),
+                () -> assertThat(restored.getProductStock("콜라").getPromotionQuantity()).isEqualTo(7),
+                () -> assertThat(restored.getProductStock("물").getRegularQuantity()).isEqualTo(8)
+        );
+    }
+
+    @Test
+    @DisplayName("기록 도중 종료되어 잘린 마지막 기록은 버린다.")
+    void 기록_도중_종료되어_잘린_마지막_기록은_버린다() throws IOException {
+        // Given
+        Path file = directory.resolve("stock.journal");
+        Inventory inventory = makeInventory();
+        try (StockJournal journal = StockJournal.open(file)) {
+            inventory.addStockChangeListener(journal);
+            inventory.getProductStock("콜라").subtractRegularQuantity(1);
+            journal.commit();
+        }
+        long validSize = Files.size(file);
+        Files.write(file, new byte[]{0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // When
+        Inventory restored = makeInventory();
+        int replayed;
+        try (StockJournal journal = StockJournal.open(file)) {
+            replayed = journal.replay(restored);
+        }
+
+        // Then
+        assertAll(
+                () -> assertThat(replayed).isEqualTo(1),
+                () -> assertThat(restored.getProductStock("콜라").getRegularQuantity()).isEqualTo(9),
+                () -> assertThat(Files.size(file)).isEqualTo(validSize)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 계산대가 동시에 확정한 판매를 모두 복원한다.")
+    void 여러_계산대가_동시에_확정한_판매를_모두_복원한다() throws Exception {
+        // Given
+        Path file = directory.resolve("stock.journal");
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), LANES * ORDERS_PER_LANE);
+        ProductStock water = inventory.getProductStock("물");
+        ExecutorService executor = Executors.newFixedThreadPool(LANES);
+
+        // When
+        try (StockJournal journal = StockJournal.open(file)) {
+            inventory.addStockChangeListener(journal);
+            List<Future<?>> lanes = new ArrayList<>();
+            for (int lane = 0; lane < LANES; lane++) {
+                lanes.add(executor.submit(() -> checkout(water, journal)));
+            }
+            for (Future<?> lane : lanes) {
+                lane.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Inventory restored = new Inventory();
+        restored.addProductStock(new Product("물", 500, null), LANES * ORDERS_PER_LANE);
+        try (StockJournal journal = StockJournal.open(file)) {
+            journal.replay(restored);
+        }
+
+        // Then
+        assertThat(restored.getProductStock("물").getRegularQuantity()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("확정되지 않고 되돌린 거래는 기록하지 않는다.")
+    void 확정되지_않고_되돌린_거래는_기록하지_않는다() {
+        // Given
+        Path file = directory.resolve("stock.journal");
+        Inventory inventory = makeInventory();
+        ProductStock water = inventory.getProductStock("물");
+        try (StockJournal journal = StockJournal.open(file)) {
+            journal.attach(inventory);
+
+            // When
+            try (StockTransaction transaction = StockTransaction.begin(List.of(water))) {
+                water.subtractRegularQuantity(4);
+            }
+            try (StockTransaction transaction = StockTransaction.begin(List.of(water))) {
+                water.subtractRegularQuantity(1);
+                transaction.commit();
+            }
+            journal.commit();
+        }
+        Inventory restored = makeInventory();
+        int replayed;
+        try (StockJournal journal = StockJournal.open(file)) {
+            replayed = journal.replay(restored);
+        }
+
+        // Then
+        assertAll(
+                () -> assertThat(water.getRegularQuantity()).isEqualTo(9),
+                () -> assertThat(replayed).isEqualTo(1),
+                () -> assertThat(restored.getProductStock("물").getRegularQuantity()).isEqualTo(9)
+        );
+    }
+
+    @Test
+    @DisplayName("스냅샷에 반영된 기록은 지우고 이후 기록만 다시 적용한다.")
+    void 스냅샷에_반영된_기록은_지우고_이후_기록만_다시_적용한다() {
+        // Given
+        Path journalFile = directory.resolve("stock.journal");
+        Path snapshotFile = directory.resolve("inventory.snapshot");
+        Inventory inventory = makeInventory();
+        PromotionRegistry promotionRegistry = PromotionRegistry.from(List.of(
+                inventory.getProductStock("콜라").getPromotion()));
+        try (StockJournal journal = StockJournal.open(journalFile)) {
+            journal.attach(inventory);
+            inventory.getProductStock("콜라").subtractPromotionQuantity(3);
+            journal.commit();
+
+            // When
+            StockCheckpoint stockCheckpoint = journal.beginCheckpoint();
+            new InventorySnapshot(promotionRegistry, inventory).write(snapshotFile, stockCheckpoint);
+            journal.discardThrough(stockCheckpoint);
+            inventory.getProductStock("물").subtractRegularQuantity(2);
+            journal.commit();
+        }
+        InventorySnapshot snapshot = InventorySnapshot.read(snapshotFile);
+        int replayed;
+        try (StockJournal journal = StockJournal.open(journalFile)) {
+            replayed = journal.replay(snapshot.getInventory(), snapshot.getJournalSequence());
+        }
+
+        // Then
+        Inventory restored = snapshot.getInventory();
+        assertAll(
+                () -> assertThat(snapshot.getJournalSequence()).isEqualTo(1),
+                () -> assertThat(replayed).isEqualTo(1),
+                () -> assertThat(restored.getProductStock("콜라").getPromotionQuantity()).isEqualTo(7),
+                () -> assertThat(restored.getProductStock("물").getRegularQuantity()).isEqualTo(8)
+        );
+    }
+
+    private void checkout(final ProductStock productStock, final StockJournal journal) {
+        for (int i = 0; i < ORDERS_PER_LANE; i++) {
+            productStock.subtractRegularQuantity(1);
+            journal.commit();
+        }
+    }
+
+    private Inventory makeInventory() {
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 10);
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        return inventory;
+    }
+}
@@ -0,0 +1,100 @@
+package store.replenishment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+
+class LowStockDetectorTest {
+
+    private Inventory inventory;
+    private LowStockDetector lowStockDetector;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        lowStockDetector = LowStockDetector.register(inventory, 3);
+    }
+
+    @Test
+    @DisplayName("남은 수량이 기준 이하가 된 상품만 전달한다.")
+    void 남은_수량이_기준_이하가_된_상품만_전달한다() {
+        // Given
+        inventory.getProductStock("콜라").subtractRegularQuantity(8);
+        inventory.getProductStock("물").subtractRegularQuantity(5);
+
+        // When
+        List<LowStockEvent> lowStockEvents = drain();
+
+        // Then
+        assertThat(lowStockEvents).containsExactly(new LowStockEvent("콜라", 0, 2));
+    }
+
+    @Test
+    @DisplayName("꺼내기 전에 같은 상품이 여러 번 팔리면 한 번만 전달한다.")
+    void 꺼내기_전에_같은_상품이_여러_번_팔리면_한_번만_전달한다() {
+        // Given
+        ProductStock productStock = inventory.getProductStock("콜라");
+        productStock.subtractRegularQuantity(7);
+        productStock.subtractRegularQuantity(1);
+        productStock.subtractRegularQuantity(2);
+
+        // When
+        List<LowStockEvent> lowStockEvents = drain();
+
+        // Then
+        assertThat(lowStockEvents).containsExactly(new LowStockEvent("콜라", 0, 0));
+        assertThat(drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("꺼낼 때 다시 채워져 있으면 전달하지 않는다.")
+    void 꺼낼_때_다시_채워져_있으면_전달하지_않는다() {
+        // Given
+        ProductStock productStock = inventory.getProductStock("콜라");
+        productStock.subtractRegularQuantity(9);
+        productStock.addRegularQuantity(10);
+
+        // When
+        List<LowStockEvent> lowStockEvents = drain();
+
+        // Then
+        assertThat(lowStockEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보충 스레드는 재고 부족 상품을 묶어서 처리기에 전달한다.")
+    void 보충_스레드는_재고_부족_상품을_묶어서_처리기에_전달한다() throws InterruptedException {
+        // Given
+        List<LowStockEvent> handled = new ArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        try (ReplenishmentConsumer ignored = ReplenishmentConsumer.start(lowStockDetector, batch -> {
+            handled.addAll(batch);
+            delivered.countDown();
+        }, Duration.ofMillis(10))) {
+            // When
+            inventory.getProductStock("물").subtractRegularQuantity(10);
+
+            // Then
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(handled).containsExactly(new LowStockEvent("물", 0, 0));
+    }
+
+    private List<LowStockEvent> drain() {
+        List<LowStockEvent> lowStockEvents = new ArrayList<>();
+        lowStockDetector.drain(lowStockEvents::add);
+        return lowStockEvents;
+    }
+}
@@ -0,0 +1,108 @@
+package store.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.analytics.SalesLedger;
+import store.config.StoreOptions;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.PromotionCalendar;
+import store.persistence.InventoryRepository;
+import store.service.StoreService;
+
+class CheckoutServerTest {
+
+    private static final int SESSIONS = 50;
+
+    @Test
+    @DisplayName("동시에 접속한 세션들이 하나의 재고를 나누어 구매하고 영수증을 받는다.")
+    void 동시에_접속한_세션들이_하나의_재고를_나누어_구매하고_영수증을_받는다() throws Exception {
+        // Given
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), SESSIONS);
+        StoreOptions storeOptions = new StoreOptions(null, null, 0, null, null, 0, null);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        // When
+        List<String> responses;
+        try (CheckoutServer server = new CheckoutServer(storeOptions, new StoreService(),
+                new InventoryRepository(storeOptions), inventory, new PromotionCalendar(List.of()),
+                SalesLedger.disabled())) {
+            Thread.ofVirtual().start(server::serve);
+            List<Future<String>> sessions = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                sessions.add(clients.submit(() -> checkout(server.getPort(), "[물-1]\nN\n")));
+            }
+            responses = new ArrayList<>();
+            for (Future<String> session : sessions) {
+                responses.add(session.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        // Then
+        long receiptCount = responses.stream()
+                .filter(response -> response.contains("내실돈"))
+                .count();
+        assertAll(
+                () -> assertThat(receiptCount).isEqualTo(SESSIONS),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("응답을 기다리는 세션이 있어도 서버를 닫으면 연결을 끊고 종료한다.")
+    void 응답을_기다리는_세션이_있어도_서버를_닫으면_연결을_끊고_종료한다() throws Exception {
+        // Given
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("물", 500, null), 1);
+        StoreOptions storeOptions = new StoreOptions(null, null, 0, null, null, 0, null);
+        CheckoutServer server = new CheckoutServer(storeOptions, new StoreService(),
+                new InventoryRepository(storeOptions), inventory, new PromotionCalendar(List.of()),
+                SalesLedger.disabled());
+        Thread serving = Thread.ofVirtual().start(server::serve);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine();
+
+            // When
+            server.close();
+            serving.join(TimeUnit.SECONDS.toMillis(5));
+
+            // Then
+            assertAll(
+                    () -> assertThat(serving.isAlive()).isFalse(),
+                    () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(1)
+            );
+        }
+    }
+
+    private String checkout(final int port, final String answers) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            socket.getOutputStream().write(answers.getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+            return reader.lines().collect(Collectors.joining("\n"));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.analytics.SalesLedger;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.ActivePromotions;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.receipt.Receipt;
+import store.exception.CustomIllegalArgumentException;
+
+class BasketPricerTest {
+
+    private final Promotion promotion = makePromotion();
+    private final PromotionCalendar promotionCalendar = new PromotionCalendar(List.of(promotion));
+    private final ActivePromotions activePromotions = promotionCalendar.activeOn(LocalDate.now());
+
+    @Test
+    @DisplayName("장바구니 예상 금액은 실제 구매한 영수증 금액과 같다.")
+    void 장바구니_예상_금액은_실제_구매한_영수증_금액과_같다() {
+        for (AnswerPolicy answerPolicy : List.of(AnswerPolicy.of(true, true, false),
+                AnswerPolicy.of(false, false, false))) {
+            // Given
+            Inventory inventory = makeInventory();
+            BasketPricer basketPricer = new BasketPricer(new StoreService(), inventory, answerPolicy);
+            BatchOrderEngine engine = new BatchOrderEngine(new StoreService(), inventory, promotionCalendar,
+                    answerPolicy, SalesLedger.disabled());
+            Orders orders = makeOrders(new Order("콜라", 10), new Order("사이다", 2), new Order("물", 3));
+
+            // When
+            Receipt quote = basketPricer.quote(orders, activePromotions).receipt();
+            Receipt receipt = engine.processOrders(orders);
+
+            // Then
+            assertAll(
+                    () -> assertThat(quote.getTotalPurchaseQuantity()).isEqualTo(receipt.getTotalPurchaseQuantity()),
+                    () -> assertThat(quote.getTotalPurchaseAmount()).isEqualTo(receipt.getTotalPurchaseAmount()),
+                    () -> assertThat(quote.getTotalGiftDiscountAmount())
+                            .isEqualTo(receipt.getTotalGiftDiscountAmount()),
+                    () -> assertThat(quote.getTotalPayAmount()).isEqualTo(receipt.getTotalPayAmount())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("예상 금액을 계산해도 재고는 줄지 않는다.")
+    void 예상_금액을_계산해도_재고는_줄지_않는다() {
+        // Given
+        Inventory inventory = makeInventory();
+        BasketPricer basketPricer = new BasketPricer(new StoreService(), inventory, AnswerPolicy.of(true, true, true));
+
+        // When
+        basketPricer.quote(makeOrders(new Order("물", 3), new Order("콜라", 10)), activePromotions);
+
+        // Then
+        assertAll(
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(10),
+                () -> assertThat(inventory.getProductStock("콜라").getPromotionQuantity()).isEqualTo(7),
+                () -> assertThat(inventory.getProductStock("콜라").getRegularQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("멤버십 할인 한도는 장바구니 전체에 한 번 적용한다.")
+    void 멤버십_할인_한도는_장바구니_전체에_한_번_적용한다() {
+        // Given
+        BasketPricer basketPricer = new BasketPricer(new StoreService(), makeInventory(),
+                AnswerPolicy.of(true, true, true));
+
+        // When
+        BasketQuote quote = basketPricer.quote(makeOrders(new Order("정식도시락", 4), new Order("컵라면", 2)),
+                activePromotions);
+
+        // Then
+        assertAll(
+                () -> assertThat(quote.receipt().getTotalMembershipDiscountAmount()).isEqualTo(8000),
+                () -> assertThat(quote.orderResults().get(0).membershipDiscountAmount()).isEqualTo(7680),
+                () -> assertThat(quote.orderResults().get(1).membershipDiscountAmount()).isEqualTo(320)
+        );
+    }
+
+    @Test
+    @DisplayName("재고보다 많이 담으면 예외가 발생한다.")
+    void 재고보다_많이_담으면_예외가_발생한다() {
+        // Given
+        BasketPricer basketPricer = new BasketPricer(new StoreService(), makeInventory(),
+                AnswerPolicy.of(true, true, true));
+
+        // When & Then
+        assertThatThrownBy(() -> basketPricer.quote(makeOrders(new Order("물", 11)), activePromotions))
+                .isInstanceOf(CustomIllegalArgumentException.class);
+    }
+
+    private Orders makeOrders(final Order... orders) {
+        return new Orders(List.of(orders));
+    }
+
+    private Promotion makePromotion() {
+        LocalDate today = LocalDate.now();
+        return new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+    }
+
+    private Inventory makeInventory() {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 7);
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("사이다", 1000, promotion), 8);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        inventory.addProductStock(new Product("정식도시락", 6400, null), 8);
+        inventory.addProductStock(new Product("컵라면", 1700, null), 10);
+        return inventory;
+    }
+}
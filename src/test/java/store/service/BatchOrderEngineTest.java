@@ -0,0 +1,131 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.analytics.SalesLedger;
+import store.domain.command.AnswerPolicy;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.receipt.Receipt;
+
+class BatchOrderEngineTest {
+
+    private final Promotion promotion = makePromotion();
+    private final PromotionCalendar promotionCalendar = new PromotionCalendar(List.of(promotion));
+
+    @Test
+    @DisplayName("정해진 응답으로 주문을 일괄 처리하여 영수증을 전달한다.")
+    void 정해진_응답으로_주문을_일괄_처리하여_영수증을_전달한다() {
+        // Given
+        Inventory inventory = makeInventory();
+        BatchOrderEngine engine = new BatchOrderEngine(new StoreService(), inventory, promotionCalendar,
+                AnswerPolicy.of(true, true, true), SalesLedger.disabled());
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = engine.process(Stream.of(
+                makeOrders(new Order("물", 2)),
+                makeOrders(new Order("물", 3), new Order("콜라", 3))
+        ), receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(2),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(0),
+                () -> assertThat(receipts.get(0).getTotalPayAmount()).isEqualTo(700),
+                () -> assertThat(receipts.get(1).getGiftResults()).hasSize(1),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("정가 결제를 거절하는 응답이면 프로모션 수량만 구매한다.")
+    void 정가_결제를_거절하는_응답이면_프로모션_수량만_구매한다() {
+        // Given
+        Inventory inventory = makeInventory();
+        BatchOrderEngine engine = new BatchOrderEngine(new StoreService(), inventory, promotionCalendar,
+                AnswerPolicy.of(false, true, false), SalesLedger.disabled());
+
+        // When
+        Receipt receipt = engine.processOrders(makeOrders(new Order("콜라", 10)));
+
+        // Then
+        assertAll(
+                () -> assertThat(receipt.getTotalPurchaseQuantity()).isEqualTo(6),
+                () -> assertThat(inventory.getProductStock("콜라").getPromotionQuantity()).isEqualTo(1),
+                () -> assertThat(inventory.getProductStock("콜라").getRegularQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이 포함된 거래는 건너뛴다.")
+    void 존재하지_않는_상품이_포함된_거래는_건너뛴다() {
+        // Given
+        BatchOrderEngine engine = new BatchOrderEngine(new StoreService(), makeInventory(), promotionCalendar,
+                AnswerPolicy.of(true, true, false), SalesLedger.disabled());
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = engine.process(Stream.of(
+                makeOrders(new Order("없는상품", 1)),
+                makeOrders(new Order("물", 1))
+        ), receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(1),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(1),
+                () -> assertThat(receipts).hasSize(1)
+        );
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 주문이 포함된 거래는 앞선 주문의 차감도 되돌린다.")
+    void 재고가_부족한_주문이_포함된_거래는_앞선_주문의_차감도_되돌린다() {
+        // Given
+        Inventory inventory = makeInventory();
+        BatchOrderEngine engine = new BatchOrderEngine(new StoreService(), inventory, promotionCalendar,
+                AnswerPolicy.of(true, true, false), SalesLedger.disabled());
+
+        // When
+        BatchSummary summary = engine.process(Stream.of(
+                makeOrders(new Order("콜라", 3), new Order("물", 11))
+        ), receipt -> {
+        });
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.rejectedCount()).isEqualTo(1),
+                () -> assertThat(inventory.getProductStock("콜라").getPromotionQuantity()).isEqualTo(7),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(10)
+        );
+    }
+
+    private Orders makeOrders(final Order... orders) {
+        return new Orders(List.of(orders));
+    }
+
+    private Promotion makePromotion() {
+        LocalDate today = LocalDate.now();
+        return new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+    }
+
+    private Inventory makeInventory() {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 7);
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        return inventory;
+    }
+}
@@ -0,0 +1,171 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.analytics.SalesLedger;
+import store.domain.command.AnswerPolicy;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionCalendar;
+import store.domain.receipt.Receipt;
+
+class OrderFileImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private final Promotion promotion = makePromotion();
+    private final PromotionCalendar promotionCalendar = new PromotionCalendar(List.of(promotion));
+
+    @Test
+    @DisplayName("같은 고객의 연속된 행을 하나의 거래로 묶어 처리한다.")
+    void 같은_고객의_연속된_행을_하나의_거래로_묶어_처리한다() throws IOException {
+        // Given
+        Inventory inventory = makeInventory();
+        Path file = write("orders.csv", "customer,product,quantity\nA,물,2\nA,콜라,3\nB,물,1\n");
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = makeImporter(inventory).importFile(file, receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(2),
+                () -> assertThat(receipts.get(0).getTotalPurchaseQuantity()).isEqualTo(5),
+                () -> assertThat(receipts.get(0).getGiftResults()).hasSize(1),
+                () -> assertThat(receipts.get(1).getTotalPurchaseQuantity()).isEqualTo(1),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(7)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 상품이 두 번 나오거나 재고가 부족한 거래는 건너뛰고 다음 거래를 처리한다.")
+    void 같은_상품이_두_번_나오거나_재고가_부족한_거래는_건너뛰고_다음_거래를_처리한다() throws IOException {
+        // Given
+        Inventory inventory = makeInventory();
+        Path file = write("orders.ndjson", """
+                {"customer":"A","product":"물","quantity":1}
+                {"customer":"A","product":"물","quantity":1}
+
+                {"customer":"B","product":"콜라","quantity":3}
+                {"customer":"B","product":"물","quantity":11}
+                { "customer" : "C", "product" : "\\ubb3c", "quantity" : 4 }
+                """);
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = makeImporter(inventory).importFile(file, receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(1),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(2),
+                () -> assertThat(receipts.get(0).getTotalPurchaseQuantity()).isEqualTo(4),
+                () -> assertThat(inventory.getProductStock("콜라").getPromotionQuantity()).isEqualTo(10),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(6)
+        );
+    }
+
+    @Test
+    @DisplayName("없는 상품이 나오면 그 거래의 남은 행은 담지 않고 건너뛴다.")
+    void 없는_상품이_나오면_그_거래의_남은_행은_담지_않고_건너뛴다() throws IOException {
+        // Given
+        Inventory inventory = makeInventory();
+        StringBuilder content = new StringBuilder("customer,product,quantity\nA,물,1\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append("A,없는상품").append(i).append(",1\n");
+        }
+        content.append("B,물,2\n");
+        Path file = write("orders.csv", content.toString());
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = makeImporter(inventory).importFile(file, receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(1),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(1),
+                () -> assertThat(receipts.get(0).getTotalPurchaseQuantity()).isEqualTo(2),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(8)
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 행은 그 행의 거래만 건너뛰고 앞뒤 거래는 처리한다.")
+    void 형식이_잘못된_행은_그_행의_거래만_건너뛰고_앞뒤_거래는_처리한다() throws IOException {
+        // Given
+        Inventory inventory = makeInventory();
+        Path file = write("orders.csv", "customer,product,quantity\nA,물,1\nB,물,두개\nB,콜라,3\nC,물,2\n");
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = makeImporter(inventory).importFile(file, receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(2),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(1),
+                () -> assertThat(receipts.get(0).getTotalPurchaseQuantity()).isEqualTo(1),
+                () -> assertThat(receipts.get(1).getTotalPurchaseQuantity()).isEqualTo(2),
+                () -> assertThat(inventory.getProductStock("콜라").getPromotionQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("고객을 읽을 수 없는 행은 그 행 하나만 거절한다.")
+    void 고객을_읽을_수_없는_행은_그_행_하나만_거절한다() throws IOException {
+        // Given
+        Inventory inventory = makeInventory();
+        Path file = write("orders.ndjson", """
+                {"customer":"A","product":"물","quantity":1}
+                {"customer":"A","product":
+                {"customer":"B","product":"물","quantity":2}
+                """);
+        List<Receipt> receipts = new ArrayList<>();
+
+        // When
+        BatchSummary summary = makeImporter(inventory).importFile(file, receipts::add);
+
+        // Then
+        assertAll(
+                () -> assertThat(summary.receiptCount()).isEqualTo(2),
+                () -> assertThat(summary.rejectedCount()).isEqualTo(1),
+                () -> assertThat(inventory.getProductStock("물").getRegularQuantity()).isEqualTo(7)
+        );
+    }
+
+    private OrderFileImporter makeImporter(final Inventory inventory) {
+        return new OrderFileImporter(new BatchOrderEngine(new StoreService(), inventory, promotionCalendar,
+                AnswerPolicy.of(true, true, false), SalesLedger.disabled()), inventory);
+    }
+
+    private Path write(final String fileName, final String content) throws IOException {
+        return Files.writeString(directory.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+
+    private Promotion makePromotion() {
+        LocalDate today = LocalDate.now();
+        return new Promotion("탄산2+1", 2, 1, today.minusDays(1), today.plusDays(1));
+    }
+
+    private Inventory makeInventory() {
+        Inventory inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 10);
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("물", 500, null), 10);
+        return inventory;
+    }
+}
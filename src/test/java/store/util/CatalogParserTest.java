@@ -0,0 +1,56 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.PromotionRegistry;
+
+class CatalogParserTest {
+
+    @Test
+    @DisplayName("프로모션 이름으로 상품의 프로모션을 연결한다.")
+    void 프로모션_이름으로_상품의_프로모션을_연결한다() {
+        // Given
+        PromotionRegistry promotionRegistry = CatalogParser.parsePromotions(List.of(
+                "탄산2+1,2,1,2024-01-01,2024-12-31",
+                "MD추천상품,1,1,2024-01-01,2024-12-31"
+        ));
+
+        // When
+        Inventory inventory = CatalogParser.parseInventory(List.of(
+                "콜라,1000,10,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,10,null"
+        ), promotionRegistry);
+
+        // Then
+        ProductStock coke = inventory.getProductStock("콜라");
+        ProductStock water = inventory.getProductStock("물");
+        assertAll(
+                () -> assertThat(promotionRegistry.getPromotions()).hasSize(2),
+                () -> assertThat(coke.getPromotion()).isSameAs(promotionRegistry.find("탄산2+1")),
+                () -> assertThat(coke.getPromotionQuantity()).isEqualTo(10),
+                () -> assertThat(coke.getRegularQuantity()).isEqualTo(10),
+                () -> assertThat(water.getPromotion()).isNull(),
+                () -> assertThat(water.getRegularQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 프로모션 이름은 프로모션이 없는 상품으로 적재한다.")
+    void 등록되지_않은_프로모션_이름은_프로모션이_없는_상품으로_적재한다() {
+        // Given
+        PromotionRegistry promotionRegistry = CatalogParser.parsePromotions(List.of());
+
+        // When
+        Inventory inventory = CatalogParser.parseInventory(List.of("콜라,1000,10,탄산2+1"), promotionRegistry);
+
+        // Then
+        assertThat(inventory.getProductStock("콜라").getRegularQuantity()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,66 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 가득 차면 기다리지 않고 넣지 못한다.")
+    void 넣은_순서대로_꺼내고_가득_차면_넣지_못한다() {
+        // Given
+        IntRingBuffer ringBuffer = new IntRingBuffer(3);
+
+        // When
+        for (int i = 0; i < ringBuffer.capacity(); i++) {
+            ringBuffer.offer(i);
+        }
+
+        // Then
+        assertThat(ringBuffer.capacity()).isEqualTo(4);
+        assertThat(ringBuffer.offer(99)).isFalse();
+        assertThat(ringBuffer.poll()).isEqualTo(0);
+        assertThat(ringBuffer.offer(4)).isTrue();
+        assertThat(List.of(ringBuffer.poll(), ringBuffer.poll(), ringBuffer.poll(), ringBuffer.poll()))
+                .containsExactly(1, 2, 3, 4);
+        assertThat(ringBuffer.poll()).isEqualTo(IntRingBuffer.EMPTY);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도 빠지거나 겹치는 값이 없다.")
+    void 여러_스레드가_동시에_넣어도_빠지거나_겹치는_값이_없다() throws InterruptedException {
+        // Given
+        int threadCount = 4;
+        int perThread = 10_000;
+        IntRingBuffer ringBuffer = new IntRingBuffer(threadCount * perThread);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            int base = t * perThread;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ringBuffer.offer(base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        boolean[] seen = new boolean[threadCount * perThread];
+        int value;
+        int count = 0;
+        while ((value = ringBuffer.poll()) != IntRingBuffer.EMPTY) {
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+            count++;
+        }
+        assertThat(count).isEqualTo(threadCount * perThread);
+    }
+}
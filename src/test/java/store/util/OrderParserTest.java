@@ -0,0 +1,71 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.order.Order;
+import store.domain.order.Orders;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.exception.CustomIllegalArgumentException;
+import store.exception.ErrorMessage;
+
+class OrderParserTest {
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, null), 10);
+        inventory.addProductStock(new Product("정식도시락", 6400, null), 8);
+        inventory.addProductStock(new Product("Water", 500, null), 5);
+    }
+
+    @Test
+    @DisplayName("주문 한 줄을 상품명과 수량으로 나누고, 상품명은 재고에 등록된 이름을 사용한다.")
+    void 주문_한_줄을_상품명과_수량으로_나누고_상품명은_재고에_등록된_이름을_사용한다() {
+        // When
+        Orders orders = OrderParser.parse("[콜라-10], [정식도시락-2] ,[Water-2147483647]", inventory);
+
+        // Then
+        List<Order> result = orders.getOrders();
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getName()).isSameAs(inventory.getProductStock("콜라").getProductName());
+        assertThat(result.get(0).getQuantity()).isEqualTo(10);
+        assertThat(result.get(1).getName()).isEqualTo("정식도시락");
+        assertThat(result.get(2).getQuantity()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 주문은 예외가 발생한다.")
+    void 형식이_잘못된_주문은_예외가_발생한다() {
+        List<String> lines = List.of("", "콜라-1", "[콜라-1", "[콜라1]", "[-1]", "[콜라-0]", "[콜라-01]",
+                "[콜라-2147483648]", "[콜라-1],", "[콜라-1],,[정식도시락-1]", "[콜 라-1]", "[콜라-1][정식도시락-1]");
+        for (String line : lines) {
+            assertThatThrownBy(() -> OrderParser.parse(line, inventory))
+                    .isInstanceOf(CustomIllegalArgumentException.class)
+                    .hasMessageContaining(ErrorMessage.INVALID_ORDER_FORMAT.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("재고에 없는 상품을 주문하면 예외가 발생한다.")
+    void 재고에_없는_상품을_주문하면_예외가_발생한다() {
+        assertThatThrownBy(() -> OrderParser.parse("[콜라-1],[사이다-1]", inventory))
+                .isInstanceOf(CustomIllegalArgumentException.class)
+                .hasMessageContaining(ErrorMessage.INVALID_PRODUCT.getMessage());
+    }
+
+    @Test
+    @DisplayName("같은 상품을 두 번 주문하면 예외가 발생한다.")
+    void 같은_상품을_두_번_주문하면_예외가_발생한다() {
+        assertThatThrownBy(() -> OrderParser.parse("[콜라-1],[콜라-2]", inventory))
+                .isInstanceOf(CustomIllegalArgumentException.class)
+                .hasMessageContaining(ErrorMessage.INVALID_INPUT.getMessage());
+    }
+}
@@ -0,0 +1,70 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.PromotionRegistry;
+
+class ParallelCatalogLoaderTest {
+
+    private static final int PRODUCTS = 500;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("구간으로 나누어 적재해도 순차 적재와 같은 재고가 된다.")
+    void 구간으로_나누어_적재해도_순차_적재와_같은_재고가_된다() throws IOException {
+        // Given
+        Path file = writeProducts();
+        PromotionRegistry promotionRegistry = CatalogParser.parsePromotions(List.of(
+                "탄산2+1,2,1,2024-01-01,2024-12-31"
+        ));
+
+        // When
+        Inventory parallel = ParallelCatalogLoader.readInventory(file, promotionRegistry, ForkJoinPool.commonPool(),
+                64);
+        Inventory sequential = new Inventory();
+        StoreFileReader.readRows(file, row -> CatalogParser.addProductStock(sequential, row, promotionRegistry));
+
+        // Then
+        List<ProductStock> parallelStocks = parallel.getProductStocks();
+        List<ProductStock> sequentialStocks = sequential.getProductStocks();
+        assertThat(parallelStocks).hasSize(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductStock actual = parallelStocks.get(i);
+            ProductStock expected = sequentialStocks.get(i);
+            assertAll(
+                    () -> assertThat(actual.getProductName()).isEqualTo(expected.getProductName()),
+                    () -> assertThat(actual.getPromotionQuantity()).isEqualTo(expected.getPromotionQuantity()),
+                    () -> assertThat(actual.getRegularQuantity()).isEqualTo(expected.getRegularQuantity()),
+                    () -> assertThat(actual.getPromotion()).isEqualTo(expected.getPromotion())
+            );
+        }
+    }
+
+    // 짝수 상품은 프로모션 행과 일반 행을 모두 가진다.
+    private Path writeProducts() throws IOException {
+        StringBuilder content = new StringBuilder("name,price,quantity,promotion\n");
+        for (int i = 0; i < PRODUCTS; i++) {
+            if (i % 2 == 0) {
+                content.append("상품").append(i).append(",1000,").append(i % 7).append(",탄산2+1\n");
+            }
+            content.append("상품").append(i).append(",1000,").append(i % 5).append(",null\n");
+        }
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,53 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StoreFileReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("헤더와 빈 행을 제외하고 행의 필드를 읽는다.")
+    void 헤더와_빈_행을_제외하고_행의_필드를_읽는다() throws IOException {
+        // Given
+        Path file = write("name,price,quantity,promotion\r\n콜라, 1000 ,10,탄산2+1\r\n\n물,500,10,null");
+        List<String> rows = new ArrayList<>();
+
+        // When
+        StoreFileReader.readRows(file, row -> rows.add(row.text(0) + "|" + row.integer(1) + "|"
+                + row.integer(2) + "|" + row.matches(3, "null")));
+
+        // Then
+        assertThat(rows).containsExactly("콜라|1000|10|false", "물|500|10|true");
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 수량은 파일 형식 오류이다.")
+    void 숫자가_아닌_수량은_파일_형식_오류이다() throws IOException {
+        // Given
+        Path file = write("name,price,quantity,promotion\n콜라,1000,열개,null\n");
+
+        // When & Then
+        assertThatThrownBy(() -> StoreFileReader.readRows(file, row -> row.integer(2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[ERROR]");
+    }
+
+    private Path write(final String content) throws IOException {
+        Path file = directory.resolve("products.md");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,46 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("예약한 작업은 지연 시간이 지나면 실행된다.")
+    void 예약한_작업은_지연_시간이_지나면_실행된다() throws InterruptedException {
+        // Given
+        CountDownLatch expired = new CountDownLatch(1);
+        try (TimerWheel timerWheel = new TimerWheel(Duration.ofMillis(5), 8)) {
+            // When
+            long start = System.nanoTime();
+            timerWheel.schedule(expired::countDown, Duration.ofMillis(60));
+
+            // Then
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는다.")
+    void 취소한_작업은_실행되지_않는다() throws InterruptedException {
+        // Given
+        AtomicBoolean cancelledRun = new AtomicBoolean();
+        CountDownLatch expired = new CountDownLatch(1);
+        try (TimerWheel timerWheel = new TimerWheel(Duration.ofMillis(5), 8)) {
+            // When
+            timerWheel.schedule(() -> cancelledRun.set(true), Duration.ofMillis(20)).cancel();
+            timerWheel.schedule(expired::countDown, Duration.ofMillis(40));
+
+            // Then
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(cancelledRun).isFalse();
+        }
+    }
+}
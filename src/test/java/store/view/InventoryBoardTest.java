@@ -0,0 +1,66 @@
+package store.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.stock.Inventory;
+import store.domain.product.stock.ProductStock;
+import store.domain.promotion.Promotion;
+
+class InventoryBoardTest {
+
+    private static final String LINE = System.lineSeparator();
+
+    private Inventory inventory;
+    private InventoryBoard inventoryBoard;
+
+    @BeforeEach
+    void setUp() {
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        inventory = new Inventory();
+        inventory.addProductStock(new Product("콜라", 1000, promotion), 10);
+        inventory.addProductStock(new Product("콜라", 1000, null), 0);
+        inventory.addProductStock(new Product("정식도시락", 6400, null), 8);
+        inventoryBoard = new InventoryBoard();
+    }
+
+    @Test
+    @DisplayName("상품별 가격과 프로모션 재고, 일반 재고를 출력한다.")
+    void 상품별_가격과_프로모션_재고_일반_재고를_출력한다() {
+        // When
+        String board = render();
+
+        // Then
+        assertThat(board).isEqualTo(
+                "- 콜라 1,000원 10개 탄산2+1" + LINE
+                        + "- 콜라 1,000원 재고 없음" + LINE
+                        + "- 정식도시락 6,400원 8개" + LINE);
+    }
+
+    @Test
+    @DisplayName("재고가 바뀐 상품은 다음 출력에서 다시 그린다.")
+    void 재고가_바뀐_상품은_다음_출력에서_다시_그린다() {
+        // Given
+        ProductStock lunchBox = inventory.getProductStock("정식도시락");
+        int version = lunchBox.getVersion();
+        render();
+
+        // When
+        lunchBox.subtractRegularQuantity(8);
+        String board = render();
+
+        // Then
+        assertThat(lunchBox.getVersion()).isGreaterThan(version);
+        assertThat(board).endsWith("- 정식도시락 6,400원 재고 없음" + LINE);
+    }
+
+    private String render() {
+        StringBuilder builder = new StringBuilder();
+        inventoryBoard.render(inventory, builder);
+        return builder.toString();
+    }
+}
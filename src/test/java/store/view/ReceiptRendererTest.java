@@ -0,0 +1,64 @@
+package store.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptBuilder;
+import store.domain.receipt.Receipt.GiftResult;
+import store.domain.receipt.Receipt.PurchaseResult;
+
+class ReceiptRendererTest {
+
+    private static final String LINE = System.lineSeparator();
+
+    @Test
+    @DisplayName("형식 문자열로 출력한 영수증과 같은 내용을 만든다.")
+    void 형식_문자열로_출력한_영수증과_같은_내용을_만든다() {
+        // Given
+        Receipt receipt = new ReceiptBuilder()
+                .addPurchase(new PurchaseResult("콜라", 3, 1000))
+                .addPurchase(new PurchaseResult("Vitamin워터", 12, 1_234_567))
+                .addPurchase(new PurchaseResult("물", 1, 500))
+                .addGift(new GiftResult("콜라", 1, 1000))
+                .addMembershipDiscount(8000)
+                .build();
+        StringBuilder builder = new StringBuilder();
+
+        // When
+        new ReceiptRenderer().render(receipt, builder);
+
+        // Then
+        assertThat(builder.toString()).isEqualTo(renderWithFormat(receipt));
+    }
+
+    private String renderWithFormat(final Receipt receipt) {
+        StringBuilder expected = new StringBuilder();
+        expected.append(LINE).append("==============W 편의점================").append(LINE);
+        expected.append("상품명\t\t\t\t수량\t\t금액").append(LINE);
+        for (PurchaseResult result : receipt.getPurchaseResults()) {
+            String name = String.format("%-" + (12 - countKorean(result.productName())) + "s", result.productName());
+            expected.append(name).append(String.format("\t\t\t%d\t\t%,d", result.quantity(), result.price()))
+                    .append(LINE);
+        }
+        expected.append("=============증\t\t정===============").append(LINE);
+        for (GiftResult result : receipt.getGiftResults()) {
+            expected.append(String.format("%s\t\t\t\t\t%d", result.productName(), result.quantity())).append(LINE);
+        }
+        expected.append("====================================").append(LINE);
+        expected.append(String.format("총구매액\t\t\t\t%d\t\t%,d", receipt.getTotalPurchaseQuantity(),
+                receipt.getTotalPurchaseAmount())).append(LINE);
+        expected.append(String.format("행사할인\t\t\t\t\t\t-%,d", receipt.getTotalGiftDiscountAmount())).append(LINE);
+        expected.append(String.format("멤버십할인\t\t\t\t\t\t-%,d", receipt.getTotalMembershipDiscountAmount()))
+                .append(LINE);
+        expected.append(String.format("내실돈\t\t\t\t\t\t %,d", receipt.getTotalPayAmount())).append(LINE);
+        return expected.toString();
+    }
+
+    private int countKorean(final String text) {
+        return (int) text.chars()
+                .filter(ch -> Character.UnicodeBlock.of(ch) == Character.UnicodeBlock.HANGUL_SYLLABLES)
+                .count();
+    }
+}
@@ -0,0 +1,54 @@
+package store.view.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChannelInputReaderTest {
+
+    @Test
+    @DisplayName("채널에서 읽은 내용을 한 줄씩 나누어 반환한다.")
+    void 채널에서_읽은_내용을_한_줄씩_나누어_반환한다() {
+        // Given
+        String longOrder = "[사이다-2]," + "[감자칩-1],".repeat(200) + "[물-1]";
+        ChannelInputReader reader = makeReader("[콜라-3]\r\n" + longOrder + "\nY\nN");
+
+        // When
+        String first = reader.readLine();
+        String second = reader.readLine();
+        String third = reader.readLine();
+        String fourth = reader.readLine();
+
+        // Then
+        assertAll(
+                () -> assertThat(first).isEqualTo("[콜라-3]"),
+                () -> assertThat(second).isEqualTo(longOrder),
+                () -> assertThat(third).isEqualTo("Y"),
+                () -> assertThat(fourth).isEqualTo("N")
+        );
+    }
+
+    @Test
+    @DisplayName("더 읽을 줄이 없으면 예외가 발생한다.")
+    void 더_읽을_줄이_없으면_예외가_발생한다() {
+        // Given
+        ChannelInputReader reader = makeReader("Y\n");
+        reader.readLine();
+
+        // When & Then
+        assertThatThrownBy(reader::readLine)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private ChannelInputReader makeReader(final String input) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        return new ChannelInputReader(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+}